@@ -0,0 +1,63 @@
+package maze.benchmarks;
+
+import maze.Maze;
+import maze.MazeGenerator;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ *	Creates the mazes used by the benchmarks.
+ *  Most are open grids from MazeGenerator, where every cell is a wall with a given probability,
+ *  the others are carved perfect mazes of one-cell corridors.
+ *  The generator is seeded, so every run measures the same mazes.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+final class BenchmarkMazes {
+    private static final long SEED = 16412L;
+
+    private BenchmarkMazes() {
+    }
+
+    /**
+     * Writes a random maze to a temporary .txt file, which is deleted when the JVM exits
+     * @param size Integer - number of rows and columns
+     * @param wallDensity double - probability of a cell being a wall
+     * @return File in the format accepted by Maze.fromTxt()
+     * @throws IOException Indicates a problem with writing the file
+     */
+    static File write(int size, double wallDensity) throws IOException {
+        File file = File.createTempFile("maze-" + size + "-", ".txt");
+        file.deleteOnExit();
+        MazeGenerator.openGrid(wallDensity, SEED).writeTxt(size, size, file.getPath());
+        return file;
+    }
+
+    /**
+     * Generates a random maze in memory
+     * @param size Integer - number of rows and columns
+     * @param wallDensity double - probability of a cell being a wall
+     * @return Returns the generated Maze
+     */
+    static Maze create(int size, double wallDensity) {
+        return MazeGenerator.openGrid(wallDensity, SEED).generate(size, size);
+    }
+
+    /**
+     * Generates a random maze in memory with any of the MazeGenerator algorithms
+     * @param size Integer - number of rows and columns
+     * @param algorithm Algorithm of the generator
+     * @param wallDensity double - probability of a cell being a wall, only used by OPEN_GRID
+     * @return Returns the generated Maze
+     */
+    static Maze create(int size, MazeGenerator.Algorithm algorithm, double wallDensity) {
+        switch (algorithm) {
+            case RECURSIVE_BACKTRACKER:
+                return MazeGenerator.recursiveBacktracker(SEED).generate(size, size);
+            case PRIM:
+                return MazeGenerator.prim(SEED).generate(size, size);
+            default:
+                return create(size, wallDensity);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package maze.benchmarks;
+
+import maze.Maze;
+import maze.MazeGenerator;
+import maze.routing.BreadthFirstSolver;
+import maze.routing.CorridorGraph;
+import maze.routing.CorridorGraphSolver;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *	Compares routing on a CorridorGraph with a breadth-first search of the cells, on carved mazes of long corridors.
+ *  The graph is built once per trial, like it is when several searches share one Maze, and the build is measured
+ *  on its own, so the two can be added up for a single search.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CorridorGraphBenchmark {
+    @Param({"1001", "3001"})
+    public int size;
+
+    @Param({"RECURSIVE_BACKTRACKER", "PRIM"})
+    public MazeGenerator.Algorithm algorithm;
+
+    private Maze maze;
+    private CorridorGraph graph;
+    private BreadthFirstSolver breadthFirst;
+
+    @Setup(Level.Trial)
+    public void createMaze() {
+        this.maze = BenchmarkMazes.create(this.size, this.algorithm, 0);
+        this.graph = CorridorGraph.build(this.maze);
+        this.breadthFirst = new BreadthFirstSolver(this.maze);
+    }
+
+    /**
+     * A whole solve on the graph built in the setup
+     */
+    @Benchmark
+    public int solveOnGraph() {
+        CorridorGraphSolver solver = new CorridorGraphSolver(this.graph);
+        solver.solve();
+        return solver.getNodesExpanded();
+    }
+
+    /**
+     * A whole breadth-first solve of the same Maze, by a solver which is reset instead of created
+     */
+    @Benchmark
+    public int solveBreadthFirst() {
+        this.breadthFirst.reset(this.maze);
+        this.breadthFirst.solve();
+        return this.breadthFirst.getNodesExpanded();
+    }
+
+    /**
+     * The build of the graph, which a single search on it has to pay for as well
+     */
+    @Benchmark
+    public CorridorGraph build() {
+        return CorridorGraph.build(this.maze);
+    }
+}
@@ -0,0 +1,57 @@
+package maze.benchmarks;
+
+import maze.Maze;
+import maze.routing.MazeSolver;
+import maze.routing.SolverStrategy;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *	Compares the Jump Point Search with A* on open grids, where JUMP_POINT only queues the cells a route may turn at.
+ *  Besides the time of a solve, the number of cells each strategy expanded is printed once the trial is over,
+ *  as it is the same for every solve of the same Maze.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JumpPointBenchmark {
+    @Param({"1000", "4000"})
+    public int size;
+
+    @Param({"0.0", "0.02", "0.1"})
+    public double wallDensity;
+
+    @Param({"A_STAR", "JUMP_POINT"})
+    public SolverStrategy strategy;
+
+    private Maze maze;
+    private MazeSolver reused;
+
+    @Setup(Level.Trial)
+    public void createMaze() {
+        this.maze = BenchmarkMazes.create(this.size, this.wallDensity);
+        this.reused = this.strategy.create(this.maze);
+    }
+
+    /**
+     * A whole solve by a solver which is reset instead of created, so that only the search itself is measured
+     */
+    @Benchmark
+    public int solve() {
+        this.reused.reset(this.maze);
+        this.reused.solve();
+        return this.reused.getNodesExpanded();
+    }
+
+    @TearDown(Level.Trial)
+    public void printNodesExpanded() {
+        System.out.println();
+        System.out.println(this.strategy + " expanded " + this.reused.getNodesExpanded() + " cells of "
+                + this.maze.getCellCount() + ", route of " + this.reused.getRoute().size() + " cells");
+    }
+}
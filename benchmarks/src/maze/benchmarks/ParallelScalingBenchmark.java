@@ -0,0 +1,56 @@
+package maze.benchmarks;
+
+import maze.Maze;
+import maze.routing.ParallelBreadthFirstSolver;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *	Measures how the parallel breadth-first search scales with the number of threads, on a pool of its own
+ *  instead of the common pool. The Maze is large enough for the levels of the search to be split into many chunks.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ParallelScalingBenchmark {
+    @Param({"10000"})
+    public int size;
+
+    @Param({"0.1"})
+    public double wallDensity;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private Maze maze;
+    private ForkJoinPool pool;
+    private ParallelBreadthFirstSolver solver;
+
+    @Setup(Level.Trial)
+    public void createMaze() {
+        this.maze = BenchmarkMazes.create(this.size, this.wallDensity);
+        this.pool = new ForkJoinPool(this.threads);
+        this.solver = new ParallelBreadthFirstSolver(this.maze, this.pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownPool() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * A whole solve by a solver which is reset instead of created, so that only the search itself is measured
+     */
+    @Benchmark
+    public int solve() {
+        this.solver.reset(this.maze);
+        this.solver.solve();
+        return this.solver.getNodesExpanded();
+    }
+}
@@ -0,0 +1,37 @@
+package maze.benchmarks;
+
+import maze.Maze;
+import org.openjdk.jmh.annotations.*;
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *	Measures Maze.fromTxt() on mazes of different sizes and wall densities.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+    @Param({"100", "1000", "4000"})
+    public int size;
+
+    @Param({"0.1", "0.3"})
+    public double wallDensity;
+
+    private File file;
+
+    @Setup(Level.Trial)
+    public void writeMaze() throws Exception {
+        this.file = BenchmarkMazes.write(this.size, this.wallDensity);
+    }
+
+    @Benchmark
+    public Maze fromTxt() throws Exception {
+        return Maze.fromTxt(this.file.getPath());
+    }
+}
@@ -0,0 +1,53 @@
+package maze.benchmarks;
+
+import maze.Maze;
+import maze.routing.RouteFinder;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *	Measures the text rendering used by the visualisation - Maze.toString() and RouteFinder.toString() half way
+ *  through a solve.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RenderBenchmark {
+    @Param({"100", "1000"})
+    public int size;
+
+    @Param({"0.1", "0.3"})
+    public double wallDensity;
+
+    private Maze maze;
+    private RouteFinder routeFinder;
+
+    @Setup(Level.Trial)
+    public void createMaze() throws Exception {
+        this.maze = BenchmarkMazes.create(this.size, this.wallDensity);
+        this.routeFinder = new RouteFinder(this.maze);
+        RouteFinder solved = new RouteFinder(this.maze);
+        int steps = 0;
+        while (!solved.step()) {
+            steps++;
+        }
+        for (int i = 0; i < steps / 2; i++) {
+            this.routeFinder.step();
+        }
+    }
+
+    @Benchmark
+    public String mazeToString() {
+        return this.maze.toString();
+    }
+
+    @Benchmark
+    public String routeFinderToString() {
+        return this.routeFinder.toString();
+    }
+}
@@ -0,0 +1,85 @@
+package maze.benchmarks;
+
+import maze.Maze;
+import maze.Tile;
+import maze.routing.IncrementalSolver;
+import maze.routing.MazeSolver;
+import maze.routing.SolverStrategy;
+import org.openjdk.jmh.annotations.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *	Compares repairing a route with the IncrementalSolver after some of its cells were turned into walls
+ *  with searching the edited Maze again from scratch with A*.
+ *  Every invocation walls off the chosen cells of the first found route, finds a route again, opens the cells
+ *  and finds a route again, so both benchmarks end with the Maze they started with.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepairBenchmark {
+    @Param({"1000", "2000"})
+    public int size;
+
+    @Param({"1", "10"})
+    public int edits;
+
+    private Maze maze;
+    private IncrementalSolver incremental;
+    private MazeSolver fromScratch;
+    private int[] editedCells;
+
+    @Setup(Level.Trial)
+    public void createMaze() {
+        this.maze = BenchmarkMazes.create(this.size, 0.1);
+        this.incremental = new IncrementalSolver(this.maze);
+        this.incremental.solve();
+        this.fromScratch = SolverStrategy.A_STAR.create(this.maze);
+        // cells spread evenly along the route, leaving out the entrance and the exit
+        List<Tile> route = this.incremental.getRoute();
+        this.editedCells = new int[this.edits];
+        for (int i = 0; i < this.edits; i++) {
+            this.editedCells[i] = this.maze.getTileIndex(route.get(1 + (i + 1) * (route.size() - 2) / (this.edits + 1)));
+        }
+    }
+
+    /**
+     * The edits are told to the IncrementalSolver, which carries on from its previous search
+     */
+    @Benchmark
+    public int repair() {
+        for (int cell : this.editedCells) {
+            this.incremental.setWall(cell, true);
+        }
+        this.incremental.solve();
+        for (int cell : this.editedCells) {
+            this.incremental.setWall(cell, false);
+        }
+        this.incremental.solve();
+        return this.incremental.getRouteCost();
+    }
+
+    /**
+     * The same edits, after each of which an A* solver is reset and solves the whole Maze again
+     */
+    @Benchmark
+    public int solveAgain() {
+        for (int cell : this.editedCells) {
+            this.maze.setWall(cell, true);
+        }
+        this.fromScratch.reset(this.maze);
+        this.fromScratch.solve();
+        for (int cell : this.editedCells) {
+            this.maze.setWall(cell, false);
+        }
+        this.fromScratch.reset(this.maze);
+        this.fromScratch.solve();
+        return this.fromScratch.getNodesExpanded();
+    }
+}
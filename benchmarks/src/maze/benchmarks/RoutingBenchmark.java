@@ -0,0 +1,90 @@
+package maze.benchmarks;
+
+import maze.Maze;
+import maze.PrunedMaze;
+import maze.routing.MazeSolver;
+import maze.routing.SolverStrategy;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *	Measures the routing - single steps and full solves, for every strategy, with and without the dead ends filled.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutingBenchmark {
+    @Param({"100", "1000"})
+    public int size;
+
+    @Param({"0.1", "0.3"})
+    public double wallDensity;
+
+    @Param({"DEPTH_FIRST", "BREADTH_FIRST", "A_STAR", "BIDIRECTIONAL", "PARALLEL_BREADTH_FIRST", "CORRIDOR_GRAPH", "DIJKSTRA", "JUMP_POINT", "INCREMENTAL"})
+    public SolverStrategy strategy;
+
+    @Param({"false", "true"})
+    public boolean fillDeadEnds;
+
+    private Maze maze;
+    private MazeSolver stepper;
+    private MazeSolver reused;
+
+    @Setup(Level.Trial)
+    public void createMaze() throws Exception {
+        this.maze = BenchmarkMazes.create(this.size, this.wallDensity);
+        if (this.fillDeadEnds) {
+            this.maze = PrunedMaze.fillDeadEnds(this.maze).getMaze();
+        }
+        this.stepper = this.strategy.create(this.maze);
+        this.reused = this.strategy.create(this.maze);
+    }
+
+    /**
+     * One step of a solver, reset whenever the search is over - with -prof gc this shows the allocation per step
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean step() {
+        if (this.stepper.step()) {
+            this.stepper.reset(this.maze);
+        }
+        return this.stepper.isFinished();
+    }
+
+    /**
+     * A whole solve through the step() loop, as MazeDriver does it
+     */
+    @Benchmark
+    public int solveByStepping() {
+        MazeSolver solver = this.strategy.create(this.maze);
+        while (!solver.step()) {
+        }
+        return solver.getNodesExpanded();
+    }
+
+    /**
+     * A whole solve through the solve() fast path
+     */
+    @Benchmark
+    public int solve() {
+        MazeSolver solver = this.strategy.create(this.maze);
+        solver.solve();
+        return solver.getNodesExpanded();
+    }
+
+    /**
+     * A whole solve by a solver which is reset instead of created, so it reuses the buffers of the previous solve
+     */
+    @Benchmark
+    public int solveReusing() {
+        this.reused.reset(this.maze);
+        this.reused.solve();
+        return this.reused.getNodesExpanded();
+    }
+}
@@ -0,0 +1,54 @@
+package maze.benchmarks;
+
+import maze.Maze;
+import maze.routing.RouteFinder;
+import org.openjdk.jmh.annotations.*;
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *	Measures saving and loading solved routes and mazes in their binary formats.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaveLoadBenchmark {
+    @Param({"100", "1000"})
+    public int size;
+
+    @Param({"0.1", "0.3"})
+    public double wallDensity;
+
+    private Maze maze;
+    private RouteFinder routeFinder;
+    private File routeFile;
+    private File mazeFile;
+
+    @Setup(Level.Trial)
+    public void solveMaze() throws Exception {
+        this.maze = BenchmarkMazes.create(this.size, this.wallDensity);
+        this.routeFinder = new RouteFinder(this.maze);
+        this.routeFinder.solve();
+        this.routeFile = File.createTempFile("maze-", ".route");
+        this.routeFile.deleteOnExit();
+        this.mazeFile = File.createTempFile("maze-", ".maze");
+        this.mazeFile.deleteOnExit();
+    }
+
+    @Benchmark
+    public RouteFinder routeRoundTrip() throws Exception {
+        this.routeFinder.save(this.routeFile.getPath());
+        return RouteFinder.load(this.routeFile.getPath());
+    }
+
+    @Benchmark
+    public Maze mazeRoundTrip() throws Exception {
+        this.maze.save(this.mazeFile.getPath());
+        return Maze.load(this.mazeFile.getPath());
+    }
+}
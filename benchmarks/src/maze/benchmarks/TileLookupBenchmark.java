@@ -0,0 +1,61 @@
+package maze.benchmarks;
+
+import maze.Maze;
+import maze.Tile;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *	Measures the Tile lookups the routing relies on - getTileLocation() and getAdjacentTile().
+ *  The looked up Tiles are spread over the whole Maze, so the cost of finding a Tile far from the start shows.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TileLookupBenchmark {
+    private static final int TILE_COUNT = 1024;
+
+    @Param({"100", "1000", "4000"})
+    public int size;
+
+    @Param({"0.3"})
+    public double wallDensity;
+
+    private Maze maze;
+    private Tile[] tiles;
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void createMaze() throws Exception {
+        this.maze = BenchmarkMazes.create(this.size, this.wallDensity);
+        this.tiles = new Tile[TILE_COUNT];
+        for (int i = 0; i < TILE_COUNT; i++) {
+            this.tiles[i] = this.maze.getTileAtIndex((int) ((long) i * this.maze.getCellCount() / TILE_COUNT));
+        }
+    }
+
+    @Benchmark
+    public Maze.Coordinate getTileLocation() {
+        return this.maze.getTileLocation(this.nextTile());
+    }
+
+    @Benchmark
+    public void getAdjacentTile(Blackhole blackhole) {
+        Tile tile = this.nextTile();
+        blackhole.consume(this.maze.getAdjacentTile(tile, Maze.Direction.NORTH));
+        blackhole.consume(this.maze.getAdjacentTile(tile, Maze.Direction.EAST));
+        blackhole.consume(this.maze.getAdjacentTile(tile, Maze.Direction.SOUTH));
+        blackhole.consume(this.maze.getAdjacentTile(tile, Maze.Direction.WEST));
+    }
+
+    private Tile nextTile() {
+        this.next = (this.next + 1) & (TILE_COUNT - 1);
+        return this.tiles[this.next];
+    }
+}
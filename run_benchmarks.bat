@@ -0,0 +1,20 @@
+@rem Compiles and runs the JMH benchmarks in ./benchmarks, without any network access.
+@rem The JMH jars have to be present in ./lib/jmh (jmh-core, jmh-generator-annprocess, jopt-simple and commons-math3).
+@rem Any arguments are passed on to JMH, e.g. run_benchmarks.bat RoutingBenchmark -p size=1000 -prof gc
+
+@if not exist lib\jmh\jmh-core-*.jar (
+    echo "JMH jars not found in lib\jmh"
+    exit /b 1
+	)
+
+@echo "Removing class files..."
+@del /s /q *.class
+
+@echo "Compiling benchmarks..."
+@dir /s /b benchmarks\src\*.java > benchmark-sources.txt
+javac -d ./bin -cp lib/jmh/* --source-path ./src @benchmark-sources.txt
+@del benchmark-sources.txt
+
+@echo "Running benchmarks..."
+java -cp ./bin;lib/jmh/* org.openjdk.jmh.Main %*
+@del /s /q *.class
@@ -0,0 +1,23 @@
+# Compiles and runs the JMH benchmarks in ./benchmarks, without any network access.
+# The JMH jars have to be present in ./lib/jmh (jmh-core, jmh-generator-annprocess, jopt-simple and commons-math3),
+# e.g. copied from a local Maven repository. Any arguments are passed on to JMH, e.g.
+# $ ./run_benchmarks.sh RoutingBenchmark -p size=1000 -prof gc
+
+JMH_LIB=./lib/jmh
+if ! ls $JMH_LIB/jmh-core-*.jar > /dev/null 2>&1 || ! ls $JMH_LIB/jmh-generator-annprocess-*.jar > /dev/null 2>&1
+then
+    echo "JMH jars not found in $JMH_LIB"
+    echo "Copy jmh-core, jmh-generator-annprocess, jopt-simple and commons-math3 jars there and run again."
+    exit 1
+fi
+JMH_CLASSPATH=$(ls $JMH_LIB/*.jar | tr '\n' ':')
+
+find . -name "*.class" -type f -delete
+
+echo "Compiling benchmarks..."
+javac -d ./bin -cp "$JMH_CLASSPATH" --source-path ./src $(find ./benchmarks/src -name "*.java") || exit 1
+
+echo "Running benchmarks..."
+java -cp "./bin:$JMH_CLASSPATH" org.openjdk.jmh.Main "$@"
+
+find . -name "*.class" -type f -delete
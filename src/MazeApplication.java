@@ -1,19 +1,29 @@
 import javafx.application.Application;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 import javafx.event.*;
 import javafx.geometry.Pos;
 import javafx.scene.*;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
-import javafx.scene.layout.GridPane;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.Slider;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.stage.*;
-import maze.InvalidSymbolException;
 import maze.Maze;
+import maze.routing.MazeSolver;
 import maze.routing.RouteFinder;
+import maze.routing.SearchOutcome;
+import maze.routing.SolverStrategy;
 import java.io.File;
 
-import maze.visualisation.MazeGridChanger;
+import maze.visualisation.MazeView;
+import maze.visualisation.SearchPlayer;
 
 /**
  *	Class handling creation of the User IO.
@@ -22,8 +32,11 @@ import maze.visualisation.MazeGridChanger;
  *	@version 1.1,	6th	May	2021
  */
 public class MazeApplication extends Application {
+    // steps of a depth-first search which can be stepped back, at one byte per step
+    private static final int HISTORY_LIMIT = 1 << 24;
 
-    private RouteFinder routeFinder;
+    private MazeSolver routeFinder;
+    private SearchPlayer player;
 
     /**
      * Basic JavaFX main class.
@@ -35,25 +48,36 @@ public class MazeApplication extends Application {
     }
 
     /**
-     * Creates a VerticalBox, attaches several buttons to it, as well as a GridPane.
-     * The GridPane represents the Visualisation of the Maze.
-     * Makes calls to a private void function called processMazeVisual() which makes the images that are displayed.
+     * Creates a VerticalBox, attaches several buttons to it, as well as a MazeView.
+     * The MazeView represents the Visualisation of the Maze and can be zoomed and panned.
      * Buttons handle loading mazes, saving and loading routes, as well as the step function of the RouteFinder
-     * @param stage The Stage object that is needed for visualising the VBox and the Grid
+     * and playing the search on a background thread, with a Slider for its speed.
+     * @param stage The Stage object that is needed for visualising the VBox and the MazeView
      */
     @Override
     public void start(Stage stage) {
         VBox pane = new VBox(0);
-        GridPane mazeGrid = new GridPane();
+        MazeView mazeView = new MazeView(600, 300);
+        VBox.setVgrow(mazeView, Priority.ALWAYS);
         pane.setAlignment(Pos.TOP_LEFT);
 
+        ComboBox<SolverStrategy> strategyBox = new ComboBox<>();
+        strategyBox.getItems().addAll(SolverStrategy.values());
+        strategyBox.setValue(SolverStrategy.DEPTH_FIRST);
+
+        // only the depth-first RouteFinder can be stepped back, so these are enabled for it alone
+        Button bBack = new Button("Back");
+        TextField stepField = new TextField();
+        Node[] historyControls = {bBack, stepField};
+        setDisabled(historyControls, true);
+
         //--------------------------------------------------------------------------------------------------------------------------
         Button bLoadMaze = new Button("Select File");
         bLoadMaze.setOnAction(new EventHandler<ActionEvent>(){
             /**
              * Button handles the choosing of a path for a Maze that has to be visualised, by using a FileChooser.
-             * Initializes the RouteFinder with using a Maze generated from the selected path
-             * Clears the grid before displaying the newly selected Maze.
+             * Initializes the solver of the selected strategy with using a Maze generated from the selected path
+             * Replaces the displayed Maze with the newly selected one.
              */
             @Override
             public void handle(ActionEvent actionEvent) {
@@ -61,9 +85,11 @@ public class MazeApplication extends Application {
                     final FileChooser fileChooser = new FileChooser();
                     fileChooser.setTitle("Select Maze File");
                     File file = fileChooser.showOpenDialog(stage);
-                    routeFinder = new RouteFinder(Maze.fromTxt(file.getPath()));
-                    mazeGrid.getChildren().clear();
-                    processMazeVisual(mazeGrid, routeFinder.getMaze().toString());
+                    routeFinder = strategyBox.getValue().create(Maze.fromTxt(file.getPath()));
+                    mazeView.setMaze(routeFinder.getMaze());
+                    routeFinder.addSearchListener(mazeView);
+                    keepHistory(routeFinder);
+                    enableHistoryControls(routeFinder, bBack, stepField);
                 } catch (Exception e) {
                     System.out.println("Error: Could not open ");
                     Alert alert = new Alert(Alert.AlertType.ERROR);
@@ -80,6 +106,7 @@ public class MazeApplication extends Application {
             /**
              * Button asks the User to choose a Path where the current state of the RouteFinder to be saved.
              * After choosing a legal file, it saves the RouteFinder object to the path
+             * Only the depth-first RouteFinder can be saved.
              */
             @Override
             public void handle(ActionEvent actionEvent) {
@@ -89,7 +116,10 @@ public class MazeApplication extends Application {
                 File file = fileChooser.showOpenDialog(stage);
                 if(!file.getAbsolutePath().equals("")){
                     try{
-                        routeFinder.save(file.getAbsolutePath());
+                        if(!(routeFinder instanceof RouteFinder)){
+                            throw new IllegalStateException("Only depth-first routes can be saved");
+                        }
+                        ((RouteFinder) routeFinder).save(file.getAbsolutePath());
 
                     }
                     catch (Exception e){
@@ -110,7 +140,7 @@ public class MazeApplication extends Application {
              * Button handles the choosing of a path for a Route that has to be visualised, by using a FileChooser.
              * Initializes the RouteFinder with using a RouteFinder object
              * generated from the selected path by using the function RouteFinder.load(path)
-             * Clears the grid before displaying the newly selected Maze.
+             * Replaces the displayed Maze with the Maze of the loaded route.
              */
             @Override
             public void handle(final ActionEvent AE){
@@ -120,10 +150,12 @@ public class MazeApplication extends Application {
                 File file = fileChooser.showOpenDialog(stage);
                 if(!file.getAbsolutePath().equals("")){
                     try{
-                        mazeGrid.getChildren().clear();
                         routeFinder = RouteFinder.load(file.getAbsolutePath());
-                        Maze maze = routeFinder.getMaze();
-                        processMazeVisual(mazeGrid, routeFinder.toString());
+                        mazeView.setMaze(routeFinder.getMaze());
+                        mazeView.show(routeFinder.toString());
+                        routeFinder.addSearchListener(mazeView);
+                        keepHistory(routeFinder);
+                        enableHistoryControls(routeFinder, bBack, stepField);
                     }
                     catch (Exception e){
                         Alert alert = new Alert(Alert.AlertType.ERROR);
@@ -140,7 +172,7 @@ public class MazeApplication extends Application {
 
         /**
          * Upon clicking executes the step() function of the RouteFinder.
-         * Then the currentState of the RouteFinder is visualised.
+         * The MazeView is notified about the changed cells by the RouteFinder, so it only has to be redrawn.
          */
         Button bStep = new Button("Step");
         bStep.setOnAction(new EventHandler<ActionEvent>(){
@@ -148,19 +180,123 @@ public class MazeApplication extends Application {
             public void handle(final ActionEvent AE){
                 if(!routeFinder.isFinished()){
                     routeFinder.step();
-                    try {
-                        processMazeVisual(mazeGrid, routeFinder.toString());
-                    } catch (InvalidSymbolException e) {
-                        e.printStackTrace();
+                    mazeView.draw();
+                    enableHistoryControls(routeFinder, bBack, stepField);
+                    if (routeFinder.getOutcome() == SearchOutcome.NO_ROUTE) {
+                        System.out.println("No exit");
                     }
                 }else{
                     System.out.println("END");
                 }
             }
         });
+
+        /**
+         * Upon clicking undoes the latest step of the depth-first RouteFinder.
+         * The button is disabled once there is no step left to undo.
+         */
+        bBack.setOnAction(new EventHandler<ActionEvent>(){
+            @Override
+            public void handle(final ActionEvent AE){
+                if (((RouteFinder) routeFinder).stepBack()) {
+                    mazeView.draw();
+                }
+                enableHistoryControls(routeFinder, bBack, stepField);
+            }
+        });
+
+        /**
+         * Upon pressing Enter moves the depth-first RouteFinder to the typed step, back or forward,
+         * and then shows the step which was reached.
+         */
+        stepField.setPromptText("Go to step");
+        stepField.setPrefColumnCount(8);
+        stepField.setOnAction(new EventHandler<ActionEvent>(){
+            @Override
+            public void handle(final ActionEvent AE){
+                try {
+                    int reached = ((RouteFinder) routeFinder).jumpToStep(Integer.parseInt(stepField.getText().trim()));
+                    stepField.setText(String.valueOf(reached));
+                    mazeView.draw();
+                    enableHistoryControls(routeFinder, bBack, stepField);
+                } catch (NumberFormatException e) {
+                    Alert alert = new Alert(Alert.AlertType.ERROR);
+                    alert.setTitle("ERROR: INVALID STEP");
+                    alert.setContentText(e.getMessage());
+                    alert.showAndWait();
+                }
+            }
+        });
         //-------------------------------------------------------------------------------------------------------
 
-        pane.getChildren().addAll(bLoadMaze, bLoadRoute, bSaveRoute, mazeGrid, bStep);
+        // the speed in steps per second is 10 to the power of the value, so the Slider covers 1 to a million evenly
+        Slider speedSlider = new Slider(0, Math.log10(SearchPlayer.MAX_STEPS_PER_SECOND), 2);
+        speedSlider.valueProperty().addListener(new ChangeListener<Number>() {
+            @Override
+            public void changed(ObservableValue<? extends Number> observable, Number oldValue, Number newValue) {
+                if (player != null && player.isRunning()) {
+                    player.setStepsPerSecond(Math.pow(10, newValue.doubleValue()));
+                }
+            }
+        });
+
+        Button bPlay = new Button("Play");
+        Button bStop = new Button("Stop");
+        bStop.setDisable(true);
+        Node[] searchControls = {strategyBox, bLoadMaze, bLoadRoute, bSaveRoute, bStep};
+        bPlay.setOnAction(new EventHandler<ActionEvent>(){
+            /**
+             * Button starts playing the search on a background thread, and then pauses and resumes it.
+             * While the search is playing, the controls which use the RouteFinder are disabled.
+             */
+            @Override
+            public void handle(final ActionEvent AE){
+                if (routeFinder == null) {
+                    return;
+                }
+                if (player == null || !player.isRunning()) {
+                    player = new SearchPlayer(routeFinder, mazeView, Math.pow(10, speedSlider.getValue()), new Runnable() {
+                        @Override
+                        public void run() {
+                            setDisabled(searchControls, false);
+                            enableHistoryControls(routeFinder, bBack, stepField);
+                            bStop.setDisable(true);
+                            bPlay.setDisable(false);
+                            bPlay.setText("Play");
+                        }
+                    });
+                    setDisabled(searchControls, true);
+                    setDisabled(historyControls, true);
+                    bStop.setDisable(false);
+                    bPlay.setText("Pause");
+                    player.play();
+                } else if (player.isPaused()) {
+                    player.resume();
+                    bPlay.setText("Pause");
+                } else {
+                    player.pause();
+                    bPlay.setText("Resume");
+                }
+            }
+        });
+        bStop.setOnAction(new EventHandler<ActionEvent>(){
+            /**
+             * Button cancels the playing search. It can be continued by stepping or playing it again
+             * once the current step is over and the controls are enabled again.
+             */
+            @Override
+            public void handle(final ActionEvent AE){
+                if (player != null) {
+                    player.cancel();
+                    bStop.setDisable(true);
+                    bPlay.setDisable(true);
+                }
+            }
+        });
+        HBox searchBox = new HBox(5, bBack, bStep, stepField, bPlay, bStop, new Label("Speed"), speedSlider);
+        searchBox.setAlignment(Pos.CENTER_LEFT);
+
+        pane.getChildren().addAll(strategyBox, bLoadMaze, bLoadRoute, bSaveRoute, mazeView, searchBox);
 
 
         Scene scene = new Scene(pane, 600, 400, Color.WHITE);
@@ -168,8 +304,42 @@ public class MazeApplication extends Application {
         stage.show();
     }
 
-    private void processMazeVisual(GridPane mazeGrid, String mazeText) throws InvalidSymbolException {
-        MazeGridChanger mazeGridChanger = new MazeGridChanger(mazeGrid, mazeText);
-        mazeGridChanger.change();
+    /**
+     * Stops a search which is still playing when the application is closed
+     */
+    @Override
+    public void stop() {
+        if (this.player != null) {
+            this.player.cancel();
+        }
+    }
+
+    /**
+     * Lets the depth-first RouteFinder be stepped back, the other solvers only move forward
+     * @param solver MazeSolver which was created or loaded
+     */
+    private static void keepHistory(MazeSolver solver) {
+        if (solver instanceof RouteFinder) {
+            ((RouteFinder) solver).setHistoryLimit(HISTORY_LIMIT);
+        }
+    }
+
+    /**
+     * Enables the controls which step the search back or jump to a step for the depth-first RouteFinder,
+     * and disables them for the other solvers. Back is also disabled while there is no step left to undo.
+     * @param solver MazeSolver which is shown
+     * @param bBack Button which steps the search back
+     * @param stepField TextField which jumps to a step
+     */
+    private static void enableHistoryControls(MazeSolver solver, Button bBack, TextField stepField) {
+        boolean history = solver instanceof RouteFinder;
+        stepField.setDisable(!history);
+        bBack.setDisable(!history || ((RouteFinder) solver).getStepNumber() == ((RouteFinder) solver).getEarliestStep());
+    }
+
+    private static void setDisabled(Node[] nodes, boolean disabled) {
+        for (Node node : nodes) {
+            node.setDisable(disabled);
+        }
     }
 }
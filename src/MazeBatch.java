@@ -0,0 +1,146 @@
+import maze.batch.BatchResult;
+import maze.batch.BatchSolver;
+import maze.batch.SummaryWriter;
+import maze.routing.RoutingMetrics;
+import maze.routing.SolverStrategy;
+
+import javax.management.JMException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ *	Class handling the command line interface for solving whole directories of mazes without the user interface.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class MazeBatch {
+    private static final String USAGE = String.join("\n",
+            "Usage: java MazeBatch [options] <directory | glob | file>...",
+            "  A directory means all the .txt files in it, a glob (quoted, e.g. \"mazes/**.txt\") the files matching it.",
+            "Options:",
+            "  --threads N       number of worker threads (default: number of processors)",
+            "  --strategy NAME   one of DEPTH_FIRST, BREADTH_FIRST, A_STAR, BIDIRECTIONAL, PARALLEL_BREADTH_FIRST,",
+            "                    CORRIDOR_GRAPH, DIJKSTRA, JUMP_POINT, INCREMENTAL (default: DEPTH_FIRST)",
+            "  --timeout MS      maximum search time per maze in milliseconds (default: 60000)",
+            "  --out DIR         directory for the summary and the routes (default: batch-output)",
+            "  --format FORMAT   csv, json or both (default: both)",
+            "  --no-routes       do not write the routes",
+            "  --fill-dead-ends  fill the dead ends of every maze before solving it",
+            "  --check-reachability  label the connected parts of every maze first and skip the search if the exit",
+            "                    cannot be reached from the entrance");
+
+    /**
+     * Solves the given mazes in parallel and writes the routes, as well as a summary.csv and/or summary.json,
+     * to the output directory. A summary line is printed at the end.
+     * @param args String[] with the options and the mazes, as described in USAGE
+     * @throws IOException Indicates a problem with finding the mazes or writing the output
+     * @throws InterruptedException Indicates that the main thread was interrupted while waiting for the workers
+     * @throws JMException Indicates that the metrics could not be registered with JMX
+     */
+    public static void main(String[] args) throws IOException, InterruptedException, JMException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        SolverStrategy strategy = SolverStrategy.DEPTH_FIRST;
+        long timeoutMillis = 60_000;
+        Path output = Paths.get("batch-output");
+        String format = "both";
+        boolean writeRoutes = true;
+        boolean fillDeadEnds = false;
+        boolean checkReachability = false;
+        List<String> patterns = new ArrayList<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--threads":
+                        threads = Integer.parseInt(args[++i]);
+                        break;
+                    case "--strategy":
+                        strategy = SolverStrategy.valueOf(args[++i]);
+                        break;
+                    case "--timeout":
+                        timeoutMillis = Long.parseLong(args[++i]);
+                        break;
+                    case "--out":
+                        output = Paths.get(args[++i]);
+                        break;
+                    case "--format":
+                        format = args[++i];
+                        if (!format.equals("csv") && !format.equals("json") && !format.equals("both")) {
+                            throw new IllegalArgumentException("Unknown format " + format);
+                        }
+                        break;
+                    case "--no-routes":
+                        writeRoutes = false;
+                        break;
+                    case "--fill-dead-ends":
+                        fillDeadEnds = true;
+                        break;
+                    case "--check-reachability":
+                        checkReachability = true;
+                        break;
+                    default:
+                        if (args[i].startsWith("--")) {
+                            throw new IllegalArgumentException("Unknown option " + args[i]);
+                        }
+                        patterns.add(args[i]);
+                }
+            }
+            if (patterns.isEmpty()) {
+                throw new IllegalArgumentException("No mazes given");
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("ERROR: " + (e instanceof ArrayIndexOutOfBoundsException ? "Missing option value" : e.getMessage()));
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        // a file matched by several patterns is solved once
+        Set<Path> files = new LinkedHashSet<>();
+        for (String pattern : patterns) {
+            for (Path file : BatchSolver.findMazes(pattern)) {
+                files.add(file.toAbsolutePath().normalize());
+            }
+        }
+        Files.createDirectories(output);
+        // lets a long batch be watched from JConsole or any other JMX client
+        RoutingMetrics.registerMBean();
+        BatchSolver solver = new BatchSolver(strategy, threads, timeoutMillis, writeRoutes ? output.resolve("routes") : null,
+                fillDeadEnds, checkReachability);
+        long start = System.nanoTime();
+        List<BatchResult> results;
+        try {
+            results = solver.solveAll(new ArrayList<>(files));
+        } catch (IllegalArgumentException e) {
+            System.err.println("ERROR: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        if (!format.equals("json")) {
+            SummaryWriter.writeCsv(results, output.resolve("summary.csv"));
+        }
+        if (!format.equals("csv")) {
+            SummaryWriter.writeJson(results, output.resolve("summary.json"));
+        }
+        Map<BatchResult.Status, Integer> counts = new EnumMap<>(BatchResult.Status.class);
+        for (BatchResult result : results) {
+            counts.merge(result.getStatus(), 1, Integer::sum);
+        }
+        System.out.printf("%d mazes in %.2f s on %d threads: %s, summary written to %s%n",
+                results.size(), seconds, threads, counts, output);
+        RoutingMetrics totals = RoutingMetrics.getTotals();
+        System.out.printf("Totals: parse %.1f ms, preprocess %.1f ms, search %.1f ms, serialise %.1f ms, "
+                        + "%d cells expanded, %d dead ends, %d backtracks, peak frontier %d%n",
+                totals.getParseMillis(), totals.getPreprocessMillis(), totals.getSearchMillis(), totals.getSerialiseMillis(),
+                totals.getNodesExpanded(), totals.getDeadEnds(), totals.getBacktracks(), totals.getPeakFrontier());
+    }
+}
@@ -1,5 +1,8 @@
 import maze.*;
+import maze.routing.MazeSolver;
 import maze.routing.RouteFinder;
+import maze.routing.SearchOutcome;
+import maze.routing.SolverStrategy;
 
 import java.io.IOException;
 
@@ -11,10 +14,14 @@ import java.io.IOException;
 public class MazeDriver {
     /**
      * Used for manual testing and debugging.
-     * Create a Maze using the Maze.fromTxt() function.
+     * Create a Maze using the Maze.fromTxt() function, from the first argument or resources/mazes/maze1.txt.
+     * Paths are relative to the working directory, so the driver runs from the project root on any system.
      * Create a RouteFinder using the RouteFinder constructor and the Maze as a parameter.
      * Execute the step() method several times and observe the results.
-     * Execute the load and save functionality and observe the results.
+     * Execute the load and save functionality, with the second argument or resources/mazes/solved.txt,
+     * and observe the results.
+     * Solve the same Maze with every SolverStrategy and compare the route lengths and expanded cells.
+     * @param args String[] with the optional paths of the maze and of the saved route
      * @throws RaggedMazeException Indicates a problem with the .txt file - not all rows are of an equal size
      * @throws IOException Indicates a problem with the FileReader's ability to read lines of Text
      * @throws InvalidSymbolException Indicates a problem with the .txt file - there is a character different from {# . e x}
@@ -24,7 +31,9 @@ public class MazeDriver {
      * @throws NoExitException Indicates a problem with the .txt file - there isn't a 'e' symbol in it
      */
     public static void main(String args[]) throws RaggedMazeException, IOException, InvalidSymbolException, MultipleEntranceException, MultipleExitException, NoEntranceException, NoExitException {
-        Maze maze = Maze.fromTxt("I:\\Maze\\resources\\mazes\\maze1.txt");
+        String mazePath = args.length > 0 ? args[0] : "resources/mazes/maze1.txt";
+        String routePath = args.length > 1 ? args[1] : "resources/mazes/solved.txt";
+        Maze maze = Maze.fromTxt(mazePath);
         if(maze == null){
             System.out.println("Maze is invalid!");
         }else {
@@ -34,14 +43,25 @@ public class MazeDriver {
             while(!routeFinder.step()){
                 System.out.println(routeFinder.toString());
             }
-            routeFinder.save("I:\\Maze\\resources\\mazes\\solved.txt");
+            if (routeFinder.getOutcome() == SearchOutcome.NO_ROUTE) {
+                System.out.println("No exit");
+            }
+            routeFinder.save(routePath);
 
-            routeFinder = RouteFinder.load("I:\\Maze\\resources\\mazes\\solved.txt");
+            routeFinder = RouteFinder.load(routePath);
 
             System.out.println(routeFinder.toString());
             for (Tile tile : routeFinder.getRoute()) {
                 System.out.println(routeFinder.getMaze().getTileLocation(tile));
             }
+
+            for (SolverStrategy strategy : SolverStrategy.values()) {
+                MazeSolver solver = strategy.create(maze);
+                while (!solver.step()) {
+                }
+                System.out.println(strategy + ": route length " + solver.getRoute().size()
+                        + ", nodes expanded " + solver.getNodesExpanded());
+            }
         }
     }
 }
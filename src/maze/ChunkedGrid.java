@@ -0,0 +1,417 @@
+package maze;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *	Handles the cells of a Maze which is kept in a chunk file instead of the heap.
+ *  The grid is cut into square chunks of cells. A chunk is read from the file the first time one of its cells is needed,
+ *  and the chunks are kept under a memory cap, dropping the least recently used ones - so the heap only holds
+ *  the chunks around the cells the search is working on, however large the Maze is.
+ *  Chunk file format: "MZCK", version, width, height, chunk size, entrance, exit, then every chunk packed 2 bits per cell,
+ *  row-major by chunk from the bottom row of chunks. Every chunk has the same size, so its position in the file follows
+ *  from its number, and the cells of the chunks which stick out of the Maze are walls.
+ *  Weighted corridors do not fit in 2 bits, so they cannot be kept in a chunk file.
+ *  The file is not trusted - every chunk is checked for entrance and exit cells other than the ones in the header
+ *  when it is loaded, so a corrupt file is rejected without being read in full when it is opened.
+ *  The cells can be read by several threads at once. Every thread remembers the chunk of its previous lookup,
+ *  so the lock is only taken when a thread moves to another chunk, and once per REFRESH_INTERVAL lookups of the same
+ *  chunk - which marks the chunk as used, so that the chunk a thread reads the most is not the first one dropped.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+class ChunkedGrid implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final int MAGIC = 0x4D5A434B;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 7 * 4;
+    private static final int CELLS_PER_BYTE = 4;
+    private static final byte WALL = (byte) Tile.Type.WALL.ordinal();
+    private static final byte ENTRANCE = (byte) Tile.Type.ENTRANCE.ordinal();
+    private static final byte EXIT = (byte) Tile.Type.EXIT.ordinal();
+    // a thread which stays in one chunk marks it as used once per this many lookups
+    private static final int REFRESH_INTERVAL = 4096;
+
+    private final String path;
+    private final long memoryCap;
+    private final int width;
+    private final int height;
+    private final int chunkSize;
+    // chunkSize is a power of 2, so the chunk of a cell is found by shifting and masking
+    private final int shift;
+    private final int mask;
+    private final int chunksAcross;
+    private final int chunkBytes;
+    private final int maxChunks;
+    private final int entranceIndex;
+    private final int exitIndex;
+
+    // channel, chunks, packed, misses and bytesRead are guarded by this
+    private transient FileChannel channel;
+    // unpacked chunks by their number, in the order of their last use
+    private transient LinkedHashMap<Integer, byte[]> chunks;
+    private transient ByteBuffer packed;
+    // the chunk of the previous lookup of every thread, which is usually the chunk of its next one as well
+    private transient ThreadLocal<LastChunk> lastChunks;
+    // increased by close(), so that the chunks the threads remember from before are not read any more
+    private transient volatile int generation;
+    private final LongAdder lookups = new LongAdder();
+    private long misses = 0;
+    private long bytesRead = 0;
+
+    /**
+     * Opens a chunk file, reading only its header
+     * @param path String location of a file written by a Writer
+     * @param memoryCap long - the most memory in bytes the loaded chunks may take. At least one chunk is always kept.
+     * A thread may go on reading a chunk which was just dropped until its next refresh, when the chunk is taken back.
+     * @throws IOException Indicates a problem with reading the File, or that it is not a valid chunk file
+     */
+    ChunkedGrid(String path, long memoryCap) throws IOException {
+        if (memoryCap < 0) {
+            throw new IllegalArgumentException("Memory cap cannot be negative");
+        }
+        this.path = path;
+        this.memoryCap = memoryCap;
+        this.lastChunks = ThreadLocal.withInitial(LastChunk::new);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        FileChannel channel = this.channel();
+        while (header.hasRemaining() && channel.read(header, header.position()) != -1) {
+            // every call reads some of the header
+        }
+        header.flip();
+        if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+            throw new IOException("Not a chunk file");
+        }
+        int version = header.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported chunk file version " + version);
+        }
+        this.width = header.getInt();
+        this.height = header.getInt();
+        this.chunkSize = header.getInt();
+        this.entranceIndex = header.getInt();
+        this.exitIndex = header.getInt();
+        long cellCount = (long) this.width * this.height;
+        if (this.width <= 0 || this.height <= 0 || cellCount > Integer.MAX_VALUE || !isValidChunkSize(this.chunkSize)
+                || this.entranceIndex < 0 || this.entranceIndex >= cellCount || this.exitIndex < 0 || this.exitIndex >= cellCount) {
+            throw new IOException("Chunk file has an invalid header");
+        }
+        this.shift = Integer.numberOfTrailingZeros(this.chunkSize);
+        this.mask = this.chunkSize - 1;
+        this.chunksAcross = (this.width + this.mask) >> this.shift;
+        this.chunkBytes = this.chunkSize * this.chunkSize / CELLS_PER_BYTE;
+        this.maxChunks = (int) Math.max(1, Math.min(Integer.MAX_VALUE, memoryCap / ((long) this.chunkSize * this.chunkSize)));
+        long chunksDown = (this.height + this.mask) >> this.shift;
+        if (channel.size() < HEADER_BYTES + chunksDown * this.chunksAcross * this.chunkBytes) {
+            throw new IOException("Chunk file is shorter than its header says");
+        }
+    }
+
+    /**
+     * Provides us with information whether a number can be the size of the chunks -
+     * a power of 2 between 4 and 4096, so that a chunk packs into whole bytes
+     * @param chunkSize Integer number of cells along a side of a chunk
+     * @return True if it is a valid chunk size
+     */
+    static boolean isValidChunkSize(int chunkSize) {
+        return chunkSize >= 4 && chunkSize <= 4096 && Integer.bitCount(chunkSize) == 1;
+    }
+
+    int getWidth() {
+        return this.width;
+    }
+
+    int getHeight() {
+        return this.height;
+    }
+
+    int getEntranceIndex() {
+        return this.entranceIndex;
+    }
+
+    int getExitIndex() {
+        return this.exitIndex;
+    }
+
+    /**
+     * Provides us with the Type ordinal of a cell, reading its chunk from the file if it is not loaded
+     * @param index Integer row-major index of the cell
+     * @return byte Type ordinal of the cell
+     */
+    byte get(int index) {
+        int x = index % this.width;
+        int y = index / this.width;
+        int number = (y >> this.shift) * this.chunksAcross + (x >> this.shift);
+        this.lookups.increment();
+        LastChunk last = this.lastChunks.get();
+        int generation = this.generation;
+        if (number != last.number || generation != last.generation) {
+            last.chunk = null;
+        }
+        if (last.chunk == null || ++last.hits == REFRESH_INTERVAL) {
+            last.chunk = this.chunk(number, last.chunk);
+            last.number = number;
+            last.generation = generation;
+            last.hits = 0;
+        }
+        return last.chunk[((y & this.mask) << this.shift) | (x & this.mask)];
+    }
+
+    /**
+     * Provides us with a chunk, marking it as the most recently used one
+     * @param number Integer number of the chunk
+     * @param held byte array of the chunk the calling thread is still reading, or null if it is reading another one
+     * @return byte array with the Type ordinals of the cells of the chunk
+     */
+    private synchronized byte[] chunk(int number, byte[] held) {
+        if (this.chunks == null) {
+            this.chunks = new LinkedHashMap<>(16, 0.75f, true);
+            this.packed = ByteBuffer.allocate(this.chunkBytes);
+        }
+        byte[] chunk = this.chunks.get(number);
+        if (chunk == null) {
+            if (this.chunks.size() == this.maxChunks) {
+                // the array of the dropped chunk is not reused, as other threads may still be reading it as their last chunk
+                Iterator<Map.Entry<Integer, byte[]>> leastRecentlyUsed = this.chunks.entrySet().iterator();
+                leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+            }
+            // a dropped chunk which the thread is still reading is taken back instead of being read again
+            chunk = held != null ? held : this.load(number);
+            this.chunks.put(number, chunk);
+        }
+        return chunk;
+    }
+
+    private byte[] load(int number) {
+        byte[] chunk = new byte[this.chunkSize * this.chunkSize];
+        this.packed.clear();
+        long position = HEADER_BYTES + (long) number * this.chunkBytes;
+        try {
+            FileChannel channel = this.channel();
+            while (this.packed.hasRemaining()) {
+                if (channel.read(this.packed, position + this.packed.position()) == -1) {
+                    throw new IOException("Chunk file ended in chunk " + number);
+                }
+            }
+        } catch (IOException e) {
+            // the Maze getters do not throw checked exceptions - a chunk file which breaks while in use is unrecoverable
+            throw new UncheckedIOException("Could not read chunk " + number + " of " + this.path, e);
+        }
+        this.misses++;
+        this.bytesRead += this.chunkBytes;
+        byte[] packed = this.packed.array();
+        for (int i = 0, k = 0; k < this.chunkBytes; k++) {
+            int value = packed[k];
+            chunk[i++] = (byte) (value & 3);
+            chunk[i++] = (byte) ((value >> 2) & 3);
+            chunk[i++] = (byte) ((value >> 4) & 3);
+            chunk[i++] = (byte) ((value >> 6) & 3);
+        }
+        this.checkEntranceAndExit(number, chunk);
+        return chunk;
+    }
+
+    /**
+     * Makes sure that the only entrance and exit cells of a chunk are the ones named by the header,
+     * like Maze.read() does for the whole grid
+     * @param number Integer number of the chunk
+     * @param chunk byte array with the Type ordinals of the cells of the chunk
+     */
+    private void checkEntranceAndExit(int number, byte[] chunk) {
+        int left = (number % this.chunksAcross) << this.shift;
+        int bottom = (number / this.chunksAcross) << this.shift;
+        for (int i = 0; i < chunk.length; i++) {
+            if (chunk[i] == ENTRANCE || chunk[i] == EXIT) {
+                int x = left + (i & this.mask);
+                int y = bottom + (i >> this.shift);
+                int index = y * this.width + x;
+                if (x >= this.width || y >= this.height || index != (chunk[i] == ENTRANCE ? this.entranceIndex : this.exitIndex)) {
+                    // like a read failure, this can only surface from the Maze getters as an unchecked exception
+                    throw new UncheckedIOException(new IOException("Chunk " + number + " of " + this.path
+                            + " has an entrance or exit cell the header does not name"));
+                }
+            }
+        }
+    }
+
+    private FileChannel channel() throws IOException {
+        if (this.channel == null || !this.channel.isOpen()) {
+            this.channel = FileChannel.open(new File(this.path).toPath(), StandardOpenOption.READ);
+        }
+        return this.channel;
+    }
+
+    /**
+     * Closes the chunk file and drops the loaded chunks. The file is opened again when a cell is needed.
+     * @throws IOException Indicates a problem with closing the File
+     */
+    synchronized void close() throws IOException {
+        this.chunks = null;
+        this.generation++;
+        if (this.channel != null) {
+            this.channel.close();
+        }
+    }
+
+    long getLookups() {
+        return this.lookups.sum();
+    }
+
+    synchronized long getMisses() {
+        return this.misses;
+    }
+
+    synchronized long getBytesRead() {
+        return this.bytesRead;
+    }
+
+    // the loaded chunks are read again on demand, but the per-thread caches have to exist before the first lookup
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.lastChunks = ThreadLocal.withInitial(LastChunk::new);
+    }
+
+    /**
+     *	Handles the chunk of the previous lookup of one thread
+     */
+    private static class LastChunk {
+        private int number;
+        private byte[] chunk;
+        private int generation;
+        private int hits;
+    }
+
+    /**
+     *	Handles writing a chunk file from rows of cells, with no more than one row of chunks in memory.
+     *  The rows may come in any order, as long as the rows of one row of chunks come one after the other.
+     */
+    static class Writer {
+        private final FileChannel channel;
+        private final int width;
+        private final int height;
+        private final int chunkSize;
+        private final int chunksAcross;
+        private final int chunkBytes;
+        // one row of chunks, one byte per cell
+        private final byte[] band;
+        private final ByteBuffer packed;
+        private int bandNumber = -1;
+
+        /**
+         * A constructor for creating new Objects of type Writer, which creates or replaces the File
+         * @param file File where the chunks are written
+         * @param width Integer number of columns of the Maze
+         * @param height Integer number of rows of the Maze
+         * @param chunkSize Integer number of cells along a side of a chunk, a power of 2 between 4 and 4096
+         * @throws IOException Indicates a problem with creating the File
+         */
+        Writer(File file, int width, int height, int chunkSize) throws IOException {
+            if (!isValidChunkSize(chunkSize)) {
+                throw new IllegalArgumentException("Chunk size has to be a power of 2 between 4 and 4096");
+            }
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            this.width = width;
+            this.height = height;
+            this.chunkSize = chunkSize;
+            this.chunksAcross = (width + chunkSize - 1) / chunkSize;
+            this.chunkBytes = chunkSize * chunkSize / CELLS_PER_BYTE;
+            this.band = new byte[Math.multiplyExact(this.chunksAcross * chunkSize, chunkSize)];
+            this.packed = ByteBuffer.allocate(this.chunkBytes);
+        }
+
+        /**
+         * Adds a row of the Maze
+         * @param y Integer number of the row, 0 being the bottom one
+         * @param cells byte array with the Type ordinals of the cells of the row, at least width long
+         * @throws IOException Indicates a problem with writing the File
+         */
+        void row(int y, byte[] cells) throws IOException {
+            for (int x = 0; x < this.width; x++) {
+                if (cells[x] > WALL) {
+                    throw new IOException("Chunk files cannot hold weighted cells");
+                }
+            }
+            int number = y / this.chunkSize;
+            if (number != this.bandNumber) {
+                this.flush();
+                this.bandNumber = number;
+                Arrays.fill(this.band, WALL);
+            }
+            int rowStart = (y % this.chunkSize) * this.chunksAcross * this.chunkSize;
+            System.arraycopy(cells, 0, this.band, rowStart, this.width);
+        }
+
+        /**
+         * Writes the last row of chunks and the header, and closes the File
+         * @param entranceIndex Integer index of the entrance cell
+         * @param exitIndex Integer index of the exit cell
+         * @throws IOException Indicates a problem with writing the File
+         */
+        void finish(int entranceIndex, int exitIndex) throws IOException {
+            try {
+                this.flush();
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(this.width).putInt(this.height).putInt(this.chunkSize)
+                        .putInt(entranceIndex).putInt(exitIndex);
+                header.flip();
+                this.write(header, 0);
+            } finally {
+                this.channel.close();
+            }
+        }
+
+        /**
+         * Closes the File without finishing it, after a failure
+         */
+        void abort() {
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                // the failure which led here is the one worth reporting
+            }
+        }
+
+        /**
+         * Packs the row of chunks which is in memory and writes its chunks to their places in the File
+         */
+        private void flush() throws IOException {
+            if (this.bandNumber == -1) {
+                return;
+            }
+            int rowLength = this.chunksAcross * this.chunkSize;
+            byte[] packed = this.packed.array();
+            for (int column = 0; column < this.chunksAcross; column++) {
+                int k = 0;
+                for (int row = 0; row < this.chunkSize; row++) {
+                    int start = row * rowLength + column * this.chunkSize;
+                    for (int i = start; i < start + this.chunkSize; i += CELLS_PER_BYTE) {
+                        packed[k++] = (byte) (this.band[i] | this.band[i + 1] << 2 | this.band[i + 2] << 4 | this.band[i + 3] << 6);
+                    }
+                }
+                this.packed.clear();
+                long number = (long) this.bandNumber * this.chunksAcross + column;
+                this.write(this.packed, HEADER_BYTES + number * this.chunkBytes);
+            }
+            this.bandNumber = -1;
+        }
+
+        private void write(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                position += this.channel.write(buffer, position);
+            }
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package maze;
 
 import java.io.*;
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  *	Class handling creation and usage of the mazes.
@@ -10,9 +11,31 @@ import java.util.List;
  *	@version	1.1,	6th	May	2021
  */
 public class Maze implements Serializable{
-    private Tile entrance;
-    private Tile exit;
-    private List<List<Tile>> tiles = new ArrayList<>();
+    // Cells are stored row-major, one byte per cell holding the ordinal of its Tile.Type. Row 0 is the bottom row.
+    // A Maze opened with openChunks() reads the same bytes from the chunks of a ChunkedGrid instead.
+    // The bits above the Type ordinal hold the cost of entering the cell minus 1, which is 0 for all but weighted corridors.
+    private static final Tile.Type[] TYPES = Tile.Type.values();
+    private static final byte WALL = (byte) Tile.Type.WALL.ordinal();
+    private static final byte ENTRANCE = (byte) Tile.Type.ENTRANCE.ordinal();
+    private static final byte EXIT = (byte) Tile.Type.EXIT.ordinal();
+    private static final int TYPE_MASK = 3;
+    private static final int COST_SHIFT = 2;
+    // Binary format: "MAZE", version, width, height, entrance, exit, then the cells - packed 2 bits each in version 1,
+    // and one byte each in version 2, which is only written for Mazes with weighted cells
+    private static final int MAGIC = 0x4D415A45;
+    private static final int FORMAT_VERSION = 1;
+    private static final int WEIGHTED_FORMAT_VERSION = 2;
+    private static final int CELLS_PER_BYTE = 4;
+
+    private int width;
+    private int height;
+    // the cells are either in the heap or, for a Maze opened with openChunks(), in a chunk file
+    private byte[] cells;
+    private ChunkedGrid chunks;
+    private int entranceIndex = -1;
+    private int exitIndex = -1;
+    // number of edits made with setWall(), so that anything built from the cells can tell it is out of date
+    private transient int revision = 0;
 
     /**
      * An Enum with 4 possible String states, handling the neighbour tile in each of the possible 4 directions - up,down,right,left
@@ -66,19 +89,38 @@ public class Maze implements Serializable{
         }
     }
 
-    private Maze() {
+    /**
+     * Package-private constructor used for creating a Maze from an already packed grid of cells
+     * @param width Integer - number of columns
+     * @param height Integer - number of rows
+     * @param cells byte array with the Type ordinal of each cell, row-major with row 0 being the bottom one
+     * @param entranceIndex Integer index of the entrance cell
+     * @param exitIndex Integer index of the exit cell
+     */
+    Maze(int width, int height, byte[] cells, int entranceIndex, int exitIndex) {
+        this.width = width;
+        this.height = height;
+        this.cells = cells;
+        this.entranceIndex = entranceIndex;
+        this.exitIndex = exitIndex;
+    }
+
+    private Maze(ChunkedGrid chunks) {
+        this.width = chunks.getWidth();
+        this.height = chunks.getHeight();
+        this.chunks = chunks;
+        this.entranceIndex = chunks.getEntranceIndex();
+        this.exitIndex = chunks.getExitIndex();
     }
 
     /**
      * Creates a new Maze using a path to a txt containing a specific String.
-     * A private function is called which returns a List of Strings
-     * using as a parameter a File which is created by the given path.
-     * After the List of Strings is extracted from the file, it is being processed bottom to top and based on each char
-     * a specific Tile is created in Maze. After this the exit and the entrance are set.
+     * The file is memory-mapped and parsed by MazeReader in a single pass, straight into the packed grid of the Maze.
+     * The rows are validated while they are read, and the file is processed so that its last line is the bottom row.
      * @param path Path to a .txt file which contains a specific grid of characters
      * @return Returns the newly created Maze after all of its properties are given a value
      * @throws RaggedMazeException Indicates a problem with the .txt file - not all rows are of an equal size
-     * @throws IOException Indicates a problem with the FileReader's ability to read lines of Text
+     * @throws IOException Indicates a problem with reading the file
      * @throws InvalidSymbolException Indicates a problem with the .txt file - there is a character different from {# . e x}
      * @throws MultipleEntranceException Indicates a problem with the .txt file - there are two 'e' symbols in it
      * @throws MultipleExitException Indicates a problem with the .txt file - there are two 'x' symbols in it
@@ -86,93 +128,268 @@ public class Maze implements Serializable{
      * @throws NoExitException Indicates a problem with the .txt file - there isn't a 'e' symbol in it
      */
     public static Maze fromTxt(String path) throws RaggedMazeException, IOException, InvalidSymbolException, MultipleEntranceException, MultipleExitException, NoEntranceException, NoExitException  {
-        File file = new File(path);
-
-        Maze createdMaze = new Maze();
-        List<String> lines = getMazeTextLines(file);
-
-        for (int i = 0; i < lines.size(); i++) {
-            int entranceIndex = -1;
-            int exitIndex = -1;
-
-            int index = lines.size() - 1 - i;
-            String line = lines.get(index);
-            List<Tile> tilesInRow = new ArrayList<>();
-            for (int j = 0; j < line.toCharArray().length; j++) {
-                Character c = line.charAt(j);
-                Tile tile = Tile.fromChar(c);
-                if (tile.getType() == Tile.Type.ENTRANCE) {
-                    entranceIndex = j;
-                }
-                if (tile.getType() == Tile.Type.EXIT) {
-                    exitIndex = j;
+        return MazeReader.read(new File(path));
+    }
+
+    /**
+     * Converts a Maze from a .txt file to a chunk file, which can be opened with openChunks().
+     * The Maze is never held in the heap as a whole, so this works for Mazes which are larger than the memory.
+     * @param txtPath Path to a .txt file which contains a specific grid of characters
+     * @param chunkPath String which shows the location where the chunk file should be saved
+     * @param chunkSize Integer number of cells along a side of a chunk, a power of 2 between 4 and 4096
+     * @throws RaggedMazeException Indicates a problem with the .txt file - not all rows are of an equal size
+     * @throws IOException Indicates a problem with reading the .txt file or writing the chunk file
+     * @throws InvalidSymbolException Indicates a problem with the .txt file - there is a character different from {# . e x}
+     * @throws MultipleEntranceException Indicates a problem with the .txt file - there are two 'e' symbols in it
+     * @throws MultipleExitException Indicates a problem with the .txt file - there are two 'x' symbols in it
+     * @throws NoEntranceException Indicates a problem with the .txt file - there isn't a 'e' symbol in it
+     * @throws NoExitException Indicates a problem with the .txt file - there isn't a 'x' symbol in it
+     */
+    public static void txtToChunks(String txtPath, String chunkPath, int chunkSize) throws RaggedMazeException, IOException, InvalidSymbolException, MultipleEntranceException, MultipleExitException, NoEntranceException, NoExitException {
+        MazeReader.toChunks(new File(txtPath), new File(chunkPath), chunkSize);
+    }
+
+    /**
+     * Saves the Maze to a chunk file, which can be opened with openChunks()
+     * @param path String which shows the location where the File should be saved
+     * @param chunkSize Integer number of cells along a side of a chunk, a power of 2 between 4 and 4096
+     * @throws IOException Indicates a problem with writing the File. This may be caused by providing an illegal path.
+     */
+    public void saveChunks(String path, int chunkSize) throws IOException {
+        ChunkedGrid.Writer writer = new ChunkedGrid.Writer(new File(path), this.width, this.height, chunkSize);
+        try {
+            byte[] row = new byte[this.width];
+            for (int y = 0; y < this.height; y++) {
+                for (int x = 0; x < this.width; x++) {
+                    row[x] = this.cell(y * this.width + x);
                 }
-                tilesInRow.add(tile);
+                writer.row(y, row);
             }
+            writer.finish(this.entranceIndex, this.exitIndex);
+        } catch (IOException | RuntimeException e) {
+            writer.abort();
+            throw e;
+        }
+    }
 
-            createdMaze.tiles.add(tilesInRow);
-            if (entranceIndex != -1) {
-                createdMaze.setEntrance(tilesInRow.get(entranceIndex));
-            }
-            if (exitIndex != -1) {
-                createdMaze.setExit(tilesInRow.get(exitIndex));
+    /**
+     * Opens a Maze which is kept in a chunk file instead of the heap.
+     * Its cells are read from the File in chunks the first time they are needed, and the least recently used chunks
+     * are dropped to stay under a memory cap - so the Maze can be solved with a bounded working set however large it is.
+     * Apart from being slower to read, the Maze behaves like any other. How many cells were found in the loaded chunks
+     * and how much was read from the File are shown by getChunkLookups(), getChunkMisses() and getChunkBytesRead().
+     * @param path String which indicates the location of a File written by saveChunks() or txtToChunks()
+     * @param memoryCap long - the most memory in bytes the loaded chunks may take, at one byte per cell.
+     *                  At least one chunk is always kept.
+     * @return Returns the newly created Maze
+     * @throws IOException Indicates a problem with reading the File, or that it is not a valid chunk file.
+     * The chunks of the entrance and the exit are checked here, any other chunk with an entrance or exit cell
+     * the header does not name is only found when it is loaded, and the getter which needed it throws
+     * an UncheckedIOException then.
+     */
+    public static Maze openChunks(String path, long memoryCap) throws IOException {
+        Maze maze = new Maze(new ChunkedGrid(path, memoryCap));
+        try {
+            if (maze.getType(maze.entranceIndex) != Tile.Type.ENTRANCE || maze.getType(maze.exitIndex) != Tile.Type.EXIT) {
+                throw new IOException("Chunk file has an invalid entrance or exit");
             }
+        } catch (IOException | UncheckedIOException e) {
+            maze.closeChunks();
+            throw e instanceof UncheckedIOException ? ((UncheckedIOException) e).getCause() : (IOException) e;
         }
-        if (createdMaze.getEntrance() == null) {
-            throw new NoEntranceException("ERROR: Maze doesn't have an entrance!");
-        } else {
-            if (createdMaze.getExit() == null) {
-                throw new NoExitException("ERROR: Maze doesn't have an exit!");
-            } else {
-                return createdMaze;
+        return maze;
+    }
+
+    /**
+     * Closes the chunk file of a Maze opened with openChunks() and drops its loaded chunks.
+     * The File is opened again if a cell is needed afterwards. Does nothing for other Mazes.
+     * @throws IOException Indicates a problem with closing the File
+     */
+    public void closeChunks() throws IOException {
+        if (this.chunks != null) {
+            this.chunks.close();
+        }
+    }
+
+    /**
+     * Provides us with information whether the Maze is kept in a chunk file
+     * @return True if the Maze was opened with openChunks()
+     */
+    public boolean isChunked() {
+        return this.chunks != null;
+    }
+
+    /**
+     * Provides us with the number of cells which were read from a chunk file Maze
+     * @return long count of the cell lookups, 0 if the Maze is not chunked
+     */
+    public long getChunkLookups() {
+        return this.chunks == null ? 0 : this.chunks.getLookups();
+    }
+
+    /**
+     * Provides us with the number of chunks which had to be read from the File, because they were not loaded
+     * @return long count of the chunk misses, 0 if the Maze is not chunked
+     */
+    public long getChunkMisses() {
+        return this.chunks == null ? 0 : this.chunks.getMisses();
+    }
+
+    /**
+     * Provides us with the amount of data read from the chunk file
+     * @return long number of bytes, 0 if the Maze is not chunked
+     */
+    public long getChunkBytesRead() {
+        return this.chunks == null ? 0 : this.chunks.getBytesRead();
+    }
+
+    /**
+     * Saves the Maze to a File in the compact binary format, which can be read back with Maze.load()
+     * @param path String which shows the location where the File should be saved
+     * @throws IOException Indicates a problem with writing the File. This may be caused by providing an illegal path.
+     */
+    public void save(String path) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)))) {
+            this.write(output);
+        }
+    }
+
+    /**
+     * Creates a Maze from a File which was written by save()
+     * @param path String which indicates the location of the File
+     * @return Returns the newly created Maze
+     * @throws IOException Indicates a problem with reading the File, or that it is not a valid maze file
+     */
+    public static Maze load(String path) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(path)))) {
+            return read(input);
+        }
+    }
+
+    /**
+     * Writes the Maze in the compact binary format - a header with the dimensions and the entrance and exit indices,
+     * followed by the cells packed 2 bits each, row-major from the bottom row.
+     * @param output DataOutput where the Maze is written
+     * @throws IOException Indicates a problem with writing to output
+     */
+    public void write(DataOutput output) throws IOException {
+        boolean weighted = this.isWeighted();
+        output.writeInt(MAGIC);
+        output.writeInt(weighted ? WEIGHTED_FORMAT_VERSION : FORMAT_VERSION);
+        output.writeInt(this.width);
+        output.writeInt(this.height);
+        output.writeInt(this.entranceIndex);
+        output.writeInt(this.exitIndex);
+        if (weighted) {
+            output.write(this.cells);
+            return;
+        }
+        byte[] packed = new byte[8192];
+        int used = 0;
+        int cellCount = this.getCellCount();
+        for (int i = 0; i < cellCount; i += CELLS_PER_BYTE) {
+            int value = 0;
+            for (int j = 0; j < CELLS_PER_BYTE && i + j < cellCount; j++) {
+                value |= this.cell(i + j) << (2 * j);
+            }
+            packed[used++] = (byte) value;
+            if (used == packed.length) {
+                output.write(packed, 0, used);
+                used = 0;
             }
         }
+        output.write(packed, 0, used);
     }
 
-    private static List<String> getMazeTextLines(File file) throws IOException, RaggedMazeException {
-        BufferedReader br = null;
-        br = new BufferedReader(new FileReader(file));
-        String st;
-        Integer symbolsOnRowCount = -1;
-        List<String> lines = new ArrayList<>();
-        while ((st = br.readLine()) != null) {
-            if(symbolsOnRowCount == -1){
-                symbolsOnRowCount = st.length();
-            }else{
-                if(symbolsOnRowCount != st.length()){
-                    throw new RaggedMazeException("ERROR: Maze is ragged!");
+    /**
+     * Reads a Maze which was written by write()
+     * @param input DataInput from which the Maze is read
+     * @return Returns the newly created Maze
+     * @throws IOException Indicates a problem with reading from input, or that it does not hold a valid Maze
+     */
+    public static Maze read(DataInput input) throws IOException {
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a maze file");
+        }
+        int version = input.readInt();
+        if (version != FORMAT_VERSION && version != WEIGHTED_FORMAT_VERSION) {
+            throw new IOException("Unsupported maze file version " + version);
+        }
+        int width = input.readInt();
+        int height = input.readInt();
+        int entranceIndex = input.readInt();
+        int exitIndex = input.readInt();
+        long cellCount = (long) width * height;
+        if (width < 0 || height < 0 || cellCount > Integer.MAX_VALUE
+                || entranceIndex < 0 || entranceIndex >= cellCount || exitIndex < 0 || exitIndex >= cellCount) {
+            throw new IOException("Maze file has an invalid header");
+        }
+        byte[] cells = new byte[(int) cellCount];
+        if (version == WEIGHTED_FORMAT_VERSION) {
+            input.readFully(cells);
+            for (byte cell : cells) {
+                if (cell < 0 || cell > cellValue(Tile.Type.CORRIDOR, Tile.MAX_COST)
+                        || (cell > WALL && (cell & TYPE_MASK) != Tile.Type.CORRIDOR.ordinal())) {
+                    throw new IOException("Maze file has an invalid cell");
+                }
+            }
+        } else {
+            byte[] packed = new byte[8192];
+            for (int i = 0; i < cells.length; ) {
+                int length = Math.min(packed.length, (cells.length - i + CELLS_PER_BYTE - 1) / CELLS_PER_BYTE);
+                input.readFully(packed, 0, length);
+                for (int k = 0; k < length; k++) {
+                    for (int j = 0; j < CELLS_PER_BYTE && i < cells.length; j++, i++) {
+                        cells[i] = (byte) ((packed[k] >> (2 * j)) & 3);
+                    }
                 }
             }
-            lines.add(st);
         }
-        return lines;
+        // exactly the cells the header names are the entrance and the exit, like fromTxt() requires
+        for (int i = 0; i < cells.length; i++) {
+            if ((cells[i] == ENTRANCE) != (i == entranceIndex) || (cells[i] == EXIT) != (i == exitIndex)) {
+                throw new IOException("Maze file has an invalid entrance or exit");
+            }
+        }
+        return new Maze(width, height, cells, entranceIndex, exitIndex);
     }
 
     /**
      * A method which returns the adjacent tile in a given Direction if it exists, or returns null
-     * We extract x and y coordinates of the Tile using getTileLocation
-     * Depending on the Direction a call to getTileAtLocation with parameters which slightly differ is made
+     * The index of the Tile's cell is resolved in constant time and its neighbour is found by getAdjacentIndex
      * @param tile The tile for whose neighbours we are interested in
      * @param direction An Enum - the direction of adjacent tile - can be either NORTH, SOUTH, EAST or WEST
-     * @return Returns the object that is given by getTileAtLocation. The returned object may be null.
+     * @return Returns the Tile in the given Direction. The returned object may be null.
      */
     public Tile getAdjacentTile(Tile tile, Direction direction){
-        //todo:: WARNING: Slight chance to have to replace + and -
-        //todo:: WARNING: Big chance that this will produce a lot of errors for trying to move to invalid tiles
-        int x = getTileLocation(tile).x;
-        int y = getTileLocation(tile).y;
+        int index = this.getTileIndex(tile);
+        if (index == -1) {
+            return null;
+        }
+        return this.tileAtIndex(this.getAdjacentIndex(index, direction));
+    }
 
+    /**
+     * Provides us with the row-major index of the cell which is next to a given cell in a given Direction
+     * No Tile or Coordinate objects are created, which makes this suitable for use in tight loops
+     * @param index Row-major index of the cell for whose neighbours we are interested in
+     * @param direction An Enum - the direction of the adjacent cell - can be either NORTH, SOUTH, EAST or WEST
+     * @return Returns the index of the adjacent cell, or -1 if it is outside of the Maze
+     */
+    public int getAdjacentIndex(int index, Direction direction){
+        int x = index % this.width;
         switch (direction){
             case NORTH:
-                return this.getTileAtLocation(new Coordinate(x, y + 1));
+                return index + this.width < this.getCellCount() ? index + this.width : -1;
             case SOUTH:
-                return this.getTileAtLocation(new Coordinate(x, y - 1));
+                return index - this.width >= 0 ? index - this.width : -1;
             case EAST :
-                return this.getTileAtLocation(new Coordinate(x + 1, y));
+                return x + 1 < this.width ? index + 1 : -1;
             case WEST :
-                return this.getTileAtLocation(new Coordinate(x - 1, y));
+                return x > 0 ? index - 1 : -1;
+            default:
+                return -1;
         }
-        return this.getTileAtLocation(new Coordinate(x, y));
     }
 
     /**
@@ -180,7 +397,7 @@ public class Maze implements Serializable{
      * @return Tile object, called entrance, serving as the entrance of the Maze
      */
     public Tile getEntrance() {
-        return this.entrance;
+        return this.tileAtIndex(this.entranceIndex);
     }
 
     /**
@@ -188,110 +405,342 @@ public class Maze implements Serializable{
      * @return Tile object, called exit, serving as the exit of the Maze
      */
     public Tile getExit() {
-        return this.exit;
+        return this.tileAtIndex(this.exitIndex);
+    }
+
+    /**
+     * Provides us with the row-major index of the entrance of the Maze
+     * @return Integer index of the entrance cell
+     */
+    public int getEntranceIndex() {
+        return this.entranceIndex;
+    }
+
+    /**
+     * Provides us with the row-major index of the exit of the Maze
+     * @return Integer index of the exit cell
+     */
+    public int getExitIndex() {
+        return this.exitIndex;
+    }
+
+    /**
+     * Provides us with the number of columns in the Maze
+     * @return Integer width of the Maze
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Provides us with the number of rows in the Maze
+     * @return Integer height of the Maze
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Provides us with the total number of cells in the Maze, which is also the bound of every cell index
+     * @return Integer equal to width * height
+     */
+    public int getCellCount() {
+        return this.width * this.height;
     }
 
     /**
      * Provides us with the Tile which is at specific coordinates in the Maze
      * We get the x and y coordinates after processing the coordinate parameter
      * Then we check if both of them are invalid - less than 0 or bigger than the corresponding side of the Maze
-     * If they are invalid we return null, else we get the Tile which is at index x in the List, which is at index y in tiles
+     * If they are invalid we return null, else we create a Tile for the cell at row-major index y * width + x
      * @param coordinate Coordinate of the needed tile
      * @return Returns null if the coordinates are invalid, or the needed Tile object if they are valid
      */
     public Tile getTileAtLocation(Coordinate coordinate){
         int x = coordinate.getX();
         int y = coordinate.getY();
-        if(x < 0 || y < 0 || x >= this.tiles.get(0).size() || y >= this.tiles.size()) {
+        if(x < 0 || y < 0 || x >= this.width || y >= this.height) {
             return null;
             //todo:: add an Exception throw
         }
-        return this.tiles.get(coordinate.y).get(coordinate.x);
+        return this.tileAtIndex(y * this.width + x);
     }
 
     /**
      * Provides us with the Coordinate class which has values equal to the indexes of a given Tile in the Maze
-     * We create two integers x and y which should keep the value of the indexes.
-     * We initialize them as -1 and -1 - because we are sure that there no Tiles have these coordinates
-     * For each Tile in each List of Strings in Maze, we check if the tile is equal to the provided tile,
-     * and if true we set x and y to be equal to the indexes of the Tile and of the String.
-     * If there isn't a tile which is equal, an exception would be thrown
+     * Every Tile created by the Maze knows the row-major index of its cell, so the coordinates are computed from it.
      * @param tile The Tile for which we are going to search the Maze for
      * @return Returns a newly created Coordinate object with parameters equal to the x and y coordinates of the Tile
      * (or -1 and -1) if the tile is not found
      */
     public Coordinate getTileLocation(Tile tile){
-        int x = -1, y = -1;
-        for (List<Tile> tileList : tiles) {
-            for (Tile tile1 : tileList) {
-                if (tile == tile1) {
-                    x = tileList.indexOf(tile1);
-                    y = this.getTiles().indexOf(tileList);
-                }
-            }
+        int index = this.getTileIndex(tile);
+        if (index == -1) {
+            return new Coordinate(-1, -1);
         }
+        return this.getCoordinate(index);
+    }
 
-        return new Coordinate(x, y);
+    /**
+     * Provides us with the row-major index of the cell a given Tile stands for, in constant time
+     * @param tile The Tile whose index we need
+     * @return Integer index of the cell (y * width + x), or -1 if the Tile is not part of this Maze
+     */
+    public int getTileIndex(Tile tile){
+        int index = tile.getIndex();
+        if (index < 0 || index >= this.getCellCount() || (this.cell(index) & TYPE_MASK) != tile.getType().ordinal()) {
+            return -1;
+        }
+        return index;
     }
 
     /**
-     * Provides us with the List of Lists of type Tiles, which are all of the Tiles in the Maze
-     * @return List of Lists of Tiles tiles
+     * Provides us with the Coordinate of the cell at a given row-major index
+     * @param index Integer index of the cell
+     * @return Returns a newly created Coordinate object with the x and y coordinates of the cell
      */
-    public List<List<Tile>> getTiles() {
-        return this.tiles;
+    public Coordinate getCoordinate(int index){
+        return new Coordinate(index % this.width, index / this.width);
+    }
+
+    /**
+     * Provides us with the row-major index of the cell at a given Coordinate
+     * @param coordinate Coordinate of the needed cell
+     * @return Integer index of the cell, or -1 if the coordinates are outside of the Maze
+     */
+    public int getIndex(Coordinate coordinate){
+        int x = coordinate.getX();
+        int y = coordinate.getY();
+        if(x < 0 || y < 0 || x >= this.width || y >= this.height) {
+            return -1;
+        }
+        return y * this.width + x;
+    }
+
+    /**
+     * Provides us with the Tile of the cell at a given row-major index
+     * @param index Integer index of the cell
+     * @return Returns a Tile standing for the cell, or null if the index is -1
+     */
+    public Tile getTileAtIndex(int index){
+        return this.tileAtIndex(index);
+    }
+
+    /**
+     * Provides us with the Type of the cell at a given row-major index, without creating a Tile
+     * @param index Integer index of the cell
+     * @return Type of the cell
+     */
+    public Tile.Type getType(int index){
+        return TYPES[this.cell(index) & TYPE_MASK];
     }
 
-    private void setEntrance(Tile entrance) throws MultipleEntranceException {
-        if(this.entrance != null){
-            throw new MultipleEntranceException("Maze has multiple entrances!");
+    /**
+     * Provides us with the cost of entering the cell at a given row-major index, without creating a Tile
+     * @param index Integer index of the cell
+     * @return Integer between 1 and Tile.MAX_COST for the weighted corridors, exactly 1 for all the other cells
+     */
+    public int getCost(int index){
+        return (this.cell(index) >> COST_SHIFT) + 1;
+    }
+
+    /**
+     * Provides us with information whether any cell of the Maze costs more than 1 to enter.
+     * The cells are checked on every call.
+     * @return True if the Maze has weighted corridors
+     */
+    public boolean isWeighted() {
+        if (this.cells == null) {
+            // chunk files only hold unweighted cells
+            return false;
         }
-        Boolean isInMaze = false;
-        for (List<Tile> tileRow : this.tiles) {
-            if(tileRow.contains(entrance)){
-                isInMaze = true;
+        for (byte cell : this.cells) {
+            if (cell > WALL) {
+                return true;
             }
         }
-        if(isInMaze){
-            this.entrance = entrance;
-        }else {
-            throw new IllegalArgumentException("Trying to set an entrance which is not in maze");
+        return false;
+    }
+
+    /**
+     * Package-private method which provides us with the byte a cell is stored as
+     * @param type Type of the cell
+     * @param cost Integer cost of entering the cell, between 1 and Tile.MAX_COST
+     * @return byte holding the Type ordinal and the cost
+     */
+    static byte cellValue(Tile.Type type, int cost) {
+        return (byte) (type.ordinal() | (cost - 1) << COST_SHIFT);
+    }
+
+    /**
+     * Provides us with information whether the cell at a given row-major index is navigable, without creating a Tile
+     * @param index Integer index of the cell
+     * @return True if the cell is not a WALL, False otherwise
+     */
+    public boolean isNavigable(int index){
+        // walls always cost 1, so their byte is the bare ordinal
+        return this.cell(index) != WALL;
+    }
+
+    /**
+     * Turns the cell at a given row-major index into a wall, or a wall into a corridor which costs 1 to enter.
+     * A wall keeps no cost, so a weighted corridor which is walled and opened again costs 1 afterwards,
+     * while opening a cell which already is a corridor leaves it as it is, cost included.
+     * Every edit which changes the cell increases getRevision(). Solvers and other structures built from the cells
+     * before an edit are out of date after it - an IncrementalSolver can be told about the edit and repair its route.
+     * The Maze is not safe to edit while another thread reads it.
+     * @param index Integer index of the cell
+     * @param wall Boolean - True to make the cell a wall, False to make it a corridor
+     * @return True if the cell was changed, False if it already was of the requested kind
+     * @throws IllegalArgumentException Indicates that the cell is the entrance or the exit, which cannot be edited
+     * @throws IllegalStateException Indicates that the Maze is kept in a chunk file, which is read-only
+     */
+    public boolean setWall(int index, boolean wall) {
+        if (index == this.entranceIndex || index == this.exitIndex) {
+            throw new IllegalArgumentException("The entrance and the exit cannot be edited");
+        }
+        if (this.cells == null) {
+            throw new IllegalStateException("A chunked maze cannot be edited");
+        }
+        if ((this.cells[index] == WALL) == wall) {
+            return false;
         }
+        this.cells[index] = wall ? WALL : (byte) Tile.Type.CORRIDOR.ordinal();
+        this.revision++;
+        return true;
+    }
+
+    /**
+     * Turns the wall at a given row-major index into a corridor, or the corridor into a wall, like setWall()
+     * @param index Integer index of the cell
+     * @return True if the cell is a wall after the edit, False if it is a corridor
+     * @throws IllegalArgumentException Indicates that the cell is the entrance or the exit, which cannot be edited
+     * @throws IllegalStateException Indicates that the Maze is kept in a chunk file, which is read-only
+     */
+    public boolean toggleWall(int index) {
+        boolean wall = this.isNavigable(index);
+        this.setWall(index, wall);
+        return wall;
+    }
+
+    /**
+     * Provides us with the number of edits made to the cells since the Maze was created or read
+     * @return Integer revision of the cells, 0 for a Maze which was never edited
+     */
+    public int getRevision() {
+        return this.revision;
     }
 
-    private void setExit(Tile exit) throws MultipleExitException {
-        if(this.exit != null){
-            throw new MultipleExitException("Maze has multiple exits!");
+    private byte cell(int index) {
+        byte[] cells = this.cells;
+        return cells != null ? cells[index] : this.chunks.get(index);
+    }
+
+    /**
+     * Package-private method which provides us with a copy of the packed grid, for building a changed Maze from it.
+     * The copy of a chunked Maze is read from its chunks, so it has to fit in the heap.
+     * @return byte array with the Type ordinal of each cell, row-major with row 0 being the bottom one
+     */
+    byte[] copyCells() {
+        if (this.cells != null) {
+            return this.cells.clone();
         }
-        Boolean isInMaze = false;
-        for (List<Tile> tileRow : this.tiles) {
-            if(tileRow.contains(exit)){
-                isInMaze = true;
+        byte[] copy = new byte[this.getCellCount()];
+        for (int index = 0; index < copy.length; index++) {
+            copy[index] = this.chunks.get(index);
+        }
+        return copy;
+    }
+
+    /**
+     * Provides us with the List of Lists of type Tiles, which are all of the Tiles in the Maze
+     * The returned List is a read-only view over the packed grid - the Tiles are created when they are accessed.
+     * @return List of Lists of Tiles tiles
+     */
+    public List<List<Tile>> getTiles() {
+        return new AbstractList<List<Tile>>() {
+            @Override
+            public List<Tile> get(int y) {
+                if (y < 0 || y >= height) {
+                    throw new IndexOutOfBoundsException("Row " + y + " is not in the maze");
+                }
+                return new TileRow(y);
+            }
+
+            @Override
+            public int size() {
+                return height;
             }
+        };
+    }
+
+    private Tile tileAtIndex(int index) {
+        if (index < 0) {
+            return null;
         }
-        if(isInMaze){
-            this.exit = exit;
-        }else {
-            throw new IllegalArgumentException("Trying to set an exit which is not in maze");
+        byte cell = this.cell(index);
+        if (cell > WALL) {
+            return new Tile(TYPES[cell & TYPE_MASK], index, (cell >> COST_SHIFT) + 1);
         }
+        return new Tile(TYPES[cell], index);
     }
 
     /**
      * Trasforms the Maze to a String.
-     * For each List of Tiles, starting bottom to top, we process which individual Tile and add it to a StringBuilder,
-     * depending on its Type. Then, before moving to the next List of Tiles we add a new line to the String Builder.
+     * For each row of the grid, starting bottom to top, we process each individual cell and add it to a StringBuilder,
+     * depending on its Type. Then, before moving to the next row we add a new line to the String Builder.
      * We use a StringBuilder because it is much faster than the ordinary String.
      * @return Returns the toString method of the StringBuilder.
      */
     public String toString(){
-        StringBuilder output = new StringBuilder();
-        for (int i = 0; i < this.tiles.size(); i++) {
-            List<Tile> tileInRow = this.tiles.get(this.tiles.size() - i - 1);
-            for (Tile tile : tileInRow) {
-                output.append(tile.toString());
+        StringBuilder output = new StringBuilder(this.height * (this.width + 1));
+        for (int i = 0; i < this.height; i++) {
+            int rowStart = (this.height - i - 1) * this.width;
+            for (int x = 0; x < this.width; x++) {
+                output.append(symbolOf(this.cell(rowStart + x)));
             }
             output.append("\n");
         }
         return output.toString();
     }
+
+    private static char symbolOf(byte cell) {
+        if (cell > WALL) {
+            return (char) ('0' + (cell >> COST_SHIFT) + 1);
+        }
+        switch (TYPES[cell]) {
+            case ENTRANCE:
+                return 'e';
+            case EXIT:
+                return 'x';
+            case WALL:
+                return '#';
+            default:
+                return '.';
+        }
+    }
+
+    /**
+     * A read-only view of one row of the packed grid, creating the Tiles on demand.
+     */
+    private class TileRow extends AbstractList<Tile> implements RandomAccess {
+        private final int y;
+
+        private TileRow(int y) {
+            this.y = y;
+        }
+
+        @Override
+        public Tile get(int x) {
+            if (x < 0 || x >= width) {
+                throw new IndexOutOfBoundsException("Column " + x + " is not in the maze");
+            }
+            return tileAtIndex(this.y * width + x);
+        }
+
+        @Override
+        public int size() {
+            return width;
+        }
+    }
 }
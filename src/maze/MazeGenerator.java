@@ -0,0 +1,310 @@
+package maze;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+/**
+ *	Handles the procedural generation of mazes of arbitrary sizes, used for load testing.
+ *  A generator is seeded, so the same generator settings always produce the same Maze.
+ *  Mazes are built straight into the packed grid of cells and can either be returned as a Maze
+ *  or streamed to a .txt file in the format accepted by Maze.fromTxt(), row by row.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class MazeGenerator {
+    /**
+     * An Enum with the available generation algorithms.
+     * RECURSIVE_BACKTRACKER and PRIM carve perfect mazes - there is exactly one route between any two corridors.
+     * OPEN_GRID makes every cell a wall with a given probability, so it may have many routes or none at all.
+     */
+    public enum Algorithm {
+        RECURSIVE_BACKTRACKER,
+        PRIM,
+        OPEN_GRID
+    }
+
+    private static final byte CORRIDOR = (byte) Tile.Type.CORRIDOR.ordinal();
+    private static final byte WALL = (byte) Tile.Type.WALL.ordinal();
+    private static final byte ENTRANCE = (byte) Tile.Type.ENTRANCE.ordinal();
+    private static final byte EXIT = (byte) Tile.Type.EXIT.ordinal();
+    private static final byte[] SYMBOLS = {'.', 'e', 'x', '#'};
+    // Room steps in the order NORTH, EAST, SOUTH, WEST
+    private static final int[] STEP_X = {0, 1, 0, -1};
+    private static final int[] STEP_Y = {1, 0, -1, 0};
+    private static final byte ROOT = 5;
+
+    private final Algorithm algorithm;
+    private final long seed;
+    private final double wallDensity;
+
+    private MazeGenerator(Algorithm algorithm, long seed, double wallDensity) {
+        this.algorithm = algorithm;
+        this.seed = seed;
+        this.wallDensity = wallDensity;
+    }
+
+    /**
+     * Creates a generator which carves perfect mazes with a randomised depth-first search.
+     * They have long winding corridors with few branches.
+     * @param seed long - seed of the random numbers
+     * @return Returns the new MazeGenerator
+     */
+    public static MazeGenerator recursiveBacktracker(long seed) {
+        return new MazeGenerator(Algorithm.RECURSIVE_BACKTRACKER, seed, 0);
+    }
+
+    /**
+     * Creates a generator which carves perfect mazes with randomised Prim's algorithm.
+     * They have many short dead ends.
+     * @param seed long - seed of the random numbers
+     * @return Returns the new MazeGenerator
+     */
+    public static MazeGenerator prim(long seed) {
+        return new MazeGenerator(Algorithm.PRIM, seed, 0);
+    }
+
+    /**
+     * Creates a generator of open grids, where every cell is a wall with a given probability.
+     * The entrance is in the top left corner and the exit in the bottom right one, with their neighbours kept open,
+     * but the exit is not guaranteed to be reachable.
+     * @param wallDensity double between 0 and 1 - probability of a cell being a wall
+     * @param seed long - seed of the random numbers
+     * @return Returns the new MazeGenerator
+     */
+    public static MazeGenerator openGrid(double wallDensity, long seed) {
+        if (wallDensity < 0 || wallDensity > 1) {
+            throw new IllegalArgumentException("Wall density has to be between 0 and 1");
+        }
+        return new MazeGenerator(Algorithm.OPEN_GRID, seed, wallDensity);
+    }
+
+    /**
+     * Provides us with the algorithm used by the generator
+     * @return Algorithm of the generator
+     */
+    public Algorithm getAlgorithm() {
+        return this.algorithm;
+    }
+
+    /**
+     * Generates a new Maze in memory.
+     * For the carved mazes the corridors are on the odd rows and columns, the entrance is on the left border
+     * next to the bottom row of corridors and the exit on the right border next to the top one.
+     * @param width Integer - number of columns, at least 3
+     * @param height Integer - number of rows, at least 3
+     * @return Returns the newly generated Maze
+     */
+    public Maze generate(int width, int height) {
+        checkSize(width, height);
+        byte[] cells = new byte[width * height];
+        int[] entranceAndExit;
+        if (this.algorithm == Algorithm.OPEN_GRID) {
+            SplittableRandom random = new SplittableRandom(this.seed);
+            byte[] row = new byte[width];
+            for (int y = height - 1; y >= 0; y--) {
+                this.openGridRow(random, row, y, width, height);
+                System.arraycopy(row, 0, cells, y * width, width);
+            }
+            entranceAndExit = new int[]{(height - 1) * width, width - 1};
+        } else {
+            entranceAndExit = this.carve(cells, width, height);
+        }
+        return new Maze(width, height, cells, entranceAndExit[0], entranceAndExit[1]);
+    }
+
+    /**
+     * Generates a new maze and writes it to a .txt file, in the format accepted by Maze.fromTxt().
+     * The file holds the same maze generate() would return. Open grids are streamed without keeping the grid
+     * in memory, carved mazes keep only their packed grid of cells - no Strings are created for the rows.
+     * @param width Integer - number of columns, at least 3
+     * @param height Integer - number of rows, at least 3
+     * @param path String which shows the location where the File should be saved
+     * @throws IOException Indicates a problem with writing the File
+     */
+    public void writeTxt(int width, int height, String path) throws IOException {
+        checkSize(width, height);
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(path), 1 << 16)) {
+            byte[] line = new byte[width + 1];
+            line[width] = '\n';
+            if (this.algorithm == Algorithm.OPEN_GRID) {
+                SplittableRandom random = new SplittableRandom(this.seed);
+                byte[] row = new byte[width];
+                for (int y = height - 1; y >= 0; y--) {
+                    this.openGridRow(random, row, y, width, height);
+                    writeLine(output, row, 0, line);
+                }
+            } else {
+                byte[] cells = new byte[width * height];
+                this.carve(cells, width, height);
+                for (int y = height - 1; y >= 0; y--) {
+                    writeLine(output, cells, y * width, line);
+                }
+            }
+        }
+    }
+
+    private static void checkSize(int width, int height) {
+        if (width < 3 || height < 3) {
+            throw new IllegalArgumentException("Maze has to be at least 3 by 3");
+        }
+        if ((long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Maze can have at most " + Integer.MAX_VALUE + " cells");
+        }
+    }
+
+    private static void writeLine(OutputStream output, byte[] cells, int offset, byte[] line) throws IOException {
+        int width = line.length - 1;
+        for (int x = 0; x < width; x++) {
+            line[x] = SYMBOLS[cells[offset + x]];
+        }
+        output.write(line);
+    }
+
+    private void openGridRow(SplittableRandom random, byte[] row, int y, int width, int height) {
+        for (int x = 0; x < width; x++) {
+            row[x] = random.nextDouble() < this.wallDensity ? WALL : CORRIDOR;
+        }
+        if (y == height - 1) {
+            row[0] = ENTRANCE;
+            row[1] = CORRIDOR;
+        }
+        if (y == height - 2) {
+            row[0] = CORRIDOR;
+        }
+        if (y == 1) {
+            row[width - 1] = CORRIDOR;
+        }
+        if (y == 0) {
+            row[width - 2] = CORRIDOR;
+            row[width - 1] = EXIT;
+        }
+    }
+
+    /**
+     * Carves a perfect maze into a grid of walls. Rooms are the cells with odd coordinates,
+     * and carving a passage between two rooms opens the wall cell in between.
+     * @return Array with the entrance and the exit index
+     */
+    private int[] carve(byte[] cells, int width, int height) {
+        Arrays.fill(cells, WALL);
+        int roomsX = (width - 1) / 2;
+        int roomsY = (height - 1) / 2;
+        SplittableRandom random = new SplittableRandom(this.seed);
+        if (this.algorithm == Algorithm.PRIM) {
+            carvePrim(cells, width, roomsX, roomsY, random);
+        } else {
+            carveBacktracker(cells, width, roomsX, roomsY, random);
+        }
+
+        int entrance = width;
+        cells[entrance] = ENTRANCE;
+        int exitY = 2 * roomsY - 1;
+        int lastRoomX = 2 * roomsX - 1;
+        for (int x = lastRoomX + 1; x < width - 1; x++) {
+            cells[exitY * width + x] = CORRIDOR;
+        }
+        int exit = exitY * width + width - 1;
+        cells[exit] = EXIT;
+        return new int[]{entrance, exit};
+    }
+
+    private static int roomCell(int room, int width, int roomsX) {
+        return (2 * (room / roomsX) + 1) * width + 2 * (room % roomsX) + 1;
+    }
+
+    private static int neighbourRoom(int room, int direction, int roomsX, int roomsY) {
+        int x = room % roomsX + STEP_X[direction];
+        int y = room / roomsX + STEP_Y[direction];
+        if (x < 0 || y < 0 || x >= roomsX || y >= roomsY) {
+            return -1;
+        }
+        return y * roomsX + x;
+    }
+
+    private static void openPassage(byte[] cells, int width, int roomsX, int room, int direction) {
+        int cell = roomCell(room, width, roomsX);
+        cells[cell + STEP_Y[direction] * width + STEP_X[direction]] = CORRIDOR;
+    }
+
+    /**
+     * Randomised depth-first search. Instead of a stack of rooms, every room keeps the direction it was entered from,
+     * so backtracking costs one byte per room.
+     */
+    private static void carveBacktracker(byte[] cells, int width, int roomsX, int roomsY, SplittableRandom random) {
+        byte[] entered = new byte[roomsX * roomsY];
+        int[] options = new int[4];
+        int current = 0;
+        entered[current] = ROOT;
+        cells[roomCell(current, width, roomsX)] = CORRIDOR;
+        while (true) {
+            int count = 0;
+            for (int d = 0; d < 4; d++) {
+                int next = neighbourRoom(current, d, roomsX, roomsY);
+                if (next != -1 && entered[next] == 0) {
+                    options[count++] = d;
+                }
+            }
+            if (count > 0) {
+                int d = options[random.nextInt(count)];
+                int next = neighbourRoom(current, d, roomsX, roomsY);
+                openPassage(cells, width, roomsX, current, d);
+                cells[roomCell(next, width, roomsX)] = CORRIDOR;
+                entered[next] = (byte) (d + 1);
+                current = next;
+            } else if (entered[current] == ROOT) {
+                return;
+            } else {
+                current = neighbourRoom(current, (entered[current] - 1 + 2) % 4, roomsX, roomsY);
+            }
+        }
+    }
+
+    /**
+     * Randomised Prim's algorithm. The frontier holds the rooms next to the maze which are not part of it yet,
+     * and a random frontier room is joined to a random neighbouring room of the maze in every iteration.
+     */
+    private static void carvePrim(byte[] cells, int width, int roomsX, int roomsY, SplittableRandom random) {
+        int roomCount = roomsX * roomsY;
+        BitSet inMaze = new BitSet(roomCount);
+        BitSet inFrontier = new BitSet(roomCount);
+        // the frontier is usually much smaller than the maze, so it grows on demand
+        int[] frontier = new int[Math.min(roomCount, 1024)];
+        int frontierSize = 0;
+        int[] options = new int[4];
+
+        int room = 0;
+        while (true) {
+            inMaze.set(room);
+            cells[roomCell(room, width, roomsX)] = CORRIDOR;
+            for (int d = 0; d < 4; d++) {
+                int next = neighbourRoom(room, d, roomsX, roomsY);
+                if (next != -1 && !inMaze.get(next) && !inFrontier.get(next)) {
+                    if (frontierSize == frontier.length) {
+                        frontier = Arrays.copyOf(frontier, Math.min(roomCount, frontierSize * 2));
+                    }
+                    inFrontier.set(next);
+                    frontier[frontierSize++] = next;
+                }
+            }
+            if (frontierSize == 0) {
+                return;
+            }
+            int pick = random.nextInt(frontierSize);
+            room = frontier[pick];
+            frontier[pick] = frontier[--frontierSize];
+            int count = 0;
+            for (int d = 0; d < 4; d++) {
+                int next = neighbourRoom(room, d, roomsX, roomsY);
+                if (next != -1 && inMaze.get(next)) {
+                    options[count++] = d;
+                }
+            }
+            openPassage(cells, width, roomsX, room, options[random.nextInt(count)]);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package maze;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.ByteBuffer;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ *	Handles reading a Maze from a .txt file in a single pass.
+ *  The file is memory-mapped in windows and its bytes are parsed straight into the packed grid,
+ *  so apart from the grid itself the heap usage does not depend on the size of the file.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+class MazeReader {
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final byte ENTRANCE = (byte) Tile.Type.ENTRANCE.ordinal();
+    private static final byte EXIT = (byte) Tile.Type.EXIT.ordinal();
+    private static final byte INVALID = -1;
+    // The cell value of every possible byte, or INVALID - built from Tile.typeFromChar and Tile.costFromChar,
+    // so the symbols stay in one place
+    private static final byte[] CELL_VALUES = new byte[256];
+
+    static {
+        for (int c = 0; c < CELL_VALUES.length; c++) {
+            try {
+                CELL_VALUES[c] = Maze.cellValue(Tile.typeFromChar((char) c), Tile.costFromChar((char) c));
+            } catch (InvalidSymbolException e) {
+                CELL_VALUES[c] = INVALID;
+            }
+        }
+    }
+
+    private final FileChannel channel;
+    private final long size;
+    // the length of the line terminator of the first line - 2 for "\r\n", otherwise 1
+    private int terminatorLength = 1;
+
+    private MazeReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+    }
+
+    /**
+     * Reads a Maze from a file. Lines may end with "\n", "\r" or "\r\n", like BufferedReader.readLine().
+     * The rows are written top to bottom while reading and flipped at the end,
+     * because the first line of the file is the top row of the Maze.
+     * @param file File which contains a specific grid of characters
+     * @return Returns the newly created Maze
+     * @throws IOException Indicates a problem with reading the file
+     * @throws RaggedMazeException Indicates a problem with the .txt file - not all rows are of an equal size
+     * @throws InvalidSymbolException Indicates a problem with the .txt file - there is a character different from {# . e x}
+     * @throws MultipleEntranceException Indicates a problem with the .txt file - there are two 'e' symbols in it
+     * @throws MultipleExitException Indicates a problem with the .txt file - there are two 'x' symbols in it
+     * @throws NoEntranceException Indicates a problem with the .txt file - there isn't a 'e' symbol in it
+     * @throws NoExitException Indicates a problem with the .txt file - there isn't a 'x' symbol in it
+     */
+    static Maze read(File file) throws IOException, RaggedMazeException, InvalidSymbolException, MultipleEntranceException, MultipleExitException, NoEntranceException, NoExitException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return new MazeReader(channel).parse();
+        }
+    }
+
+    /**
+     * Converts a Maze from a .txt file to a chunk file, which can be opened with Maze.openChunks().
+     * The file is read twice - once to count its rows and once to write them - and only one row of chunks is kept
+     * in memory at a time, so the Maze does not have to fit in the heap.
+     * @param file File which contains a specific grid of characters
+     * @param chunkFile File where the chunks are written
+     * @param chunkSize Integer number of cells along a side of a chunk, a power of 2 between 4 and 4096
+     * @throws IOException Indicates a problem with reading the file or writing the chunk file
+     * @throws RaggedMazeException Indicates a problem with the .txt file - not all rows are of an equal size
+     * @throws InvalidSymbolException Indicates a problem with the .txt file - there is a character different from {# . e x}
+     * @throws MultipleEntranceException Indicates a problem with the .txt file - there are two 'e' symbols in it
+     * @throws MultipleExitException Indicates a problem with the .txt file - there are two 'x' symbols in it
+     * @throws NoEntranceException Indicates a problem with the .txt file - there isn't a 'e' symbol in it
+     * @throws NoExitException Indicates a problem with the .txt file - there isn't a 'x' symbol in it
+     */
+    static void toChunks(File file, File chunkFile, int chunkSize) throws IOException, RaggedMazeException, InvalidSymbolException, MultipleEntranceException, MultipleExitException, NoEntranceException, NoExitException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MazeReader reader = new MazeReader(channel);
+            int width = reader.firstLineLength();
+            long height = reader.countRows();
+            if ((long) width * height > Integer.MAX_VALUE) {
+                throw new IOException("Maze is too large to be indexed: " + width + " columns, " + height + " rows");
+            }
+            ChunkedGrid.Writer writer = new ChunkedGrid.Writer(chunkFile, width, (int) height, chunkSize);
+            try {
+                // the first line of the file is the top row of the Maze
+                int[] found = reader.scan(width, height, (row, cells) -> writer.row((int) height - 1 - row, cells));
+                writer.finish(flipIndex(found[1], width, (int) height), flipIndex(found[2], width, (int) height));
+            } catch (Exception e) {
+                writer.abort();
+                throw e;
+            }
+        }
+    }
+
+    private Maze parse() throws IOException, RaggedMazeException, InvalidSymbolException, MultipleEntranceException, MultipleExitException, NoEntranceException, NoExitException {
+        int width = this.firstLineLength();
+        // no row can be shorter than a line of width characters followed by a single line terminator
+        long maxHeight = this.size == 0 ? 0 : width == 0 ? 1 : (this.size + 1) / (width + 1);
+        // when every line ends like the first one, the number of rows follows from the size of the file,
+        // so the grid is allocated once with its exact size
+        long expectedHeight = Math.min(maxHeight, (this.size + this.terminatorLength) / (width + this.terminatorLength));
+        if ((long) width * expectedHeight > Integer.MAX_VALUE) {
+            throw new IOException("Maze is too large to be loaded: " + width + " columns, up to " + expectedHeight + " rows");
+        }
+        // a holder, so that the grid can be replaced from the RowSink
+        byte[][] cells = {new byte[(int) (width * expectedHeight)]};
+        int[] found = this.scan(width, maxHeight, (row, rowCells) -> {
+            if ((long) (row + 1) * width > cells[0].length) {
+                // the line terminators change after the first line, so the file may have up to maxHeight rows
+                if ((long) width * maxHeight > Integer.MAX_VALUE) {
+                    throw new IOException("Maze is too large to be loaded: " + width + " columns, up to " + maxHeight + " rows");
+                }
+                cells[0] = Arrays.copyOf(cells[0], (int) (width * maxHeight));
+            }
+            System.arraycopy(rowCells, 0, cells[0], row * width, width);
+        });
+        int height = found[0];
+        byte[] grid = cells[0];
+        if (grid.length > width * height) {
+            grid = Arrays.copyOf(grid, width * height);
+        }
+        flipRows(grid, width, height);
+        return new Maze(width, height, grid, flipIndex(found[1], width, height), flipIndex(found[2], width, height));
+    }
+
+    /**
+     *	Interface handling the rows of the file, as they are read.
+     */
+    private interface RowSink {
+        /**
+         * Called once per row, in the order of the file
+         * @param row Integer number of the line, 0 being the first - the top row of the Maze
+         * @param cells byte array with the Type ordinal of each cell of the row, which is reused for the next row
+         * @throws IOException Indicates a problem with storing the row
+         */
+        void row(int row, byte[] cells) throws IOException;
+    }
+
+    /**
+     * Reads the rows of the file, validating them and passing each of them on to a RowSink
+     * @param width Integer number of cells of each row
+     * @param maxHeight long - the most rows the file may have
+     * @param sink RowSink which gets the rows
+     * @return int array with the number of rows, and the indices of the entrance and the exit counted from the top row
+     */
+    private int[] scan(int width, long maxHeight, RowSink sink) throws IOException, RaggedMazeException, InvalidSymbolException, MultipleEntranceException, MultipleExitException, NoEntranceException, NoExitException {
+        byte[] cells = new byte[width];
+        int row = 0;
+        int column = 0;
+        int entrance = -1;
+        int exit = -1;
+        boolean afterCarriageReturn = false;
+        byte[] chunk = new byte[CHUNK_SIZE];
+        for (long windowStart = 0; windowStart < this.size; windowStart += WINDOW_SIZE) {
+            MappedByteBuffer buffer = this.map(windowStart);
+            while (buffer.hasRemaining()) {
+                int length = Math.min(chunk.length, buffer.remaining());
+                buffer.get(chunk, 0, length);
+                for (int i = 0; i < length; i++) {
+                    byte b = chunk[i];
+                    if (b == '\n' && afterCarriageReturn) {
+                        afterCarriageReturn = false;
+                        continue;
+                    }
+                    afterCarriageReturn = b == '\r';
+                    if (isLineEnd(b)) {
+                        if (column != width) {
+                            throw new RaggedMazeException("ERROR: Maze is ragged!");
+                        }
+                        sink.row(row, cells);
+                        row++;
+                        column = 0;
+                        continue;
+                    }
+                    if (column == width || row >= maxHeight) {
+                        throw new RaggedMazeException("ERROR: Maze is ragged!");
+                    }
+                    byte value = CELL_VALUES[b & 0xff];
+                    if (value == INVALID) {
+                        throw new InvalidSymbolException("Maze has an invalid symbol");
+                    }
+                    cells[column] = value;
+                    if (value == ENTRANCE) {
+                        if (entrance != -1) {
+                            throw new MultipleEntranceException("Maze has multiple entrances!");
+                        }
+                        entrance = row * width + column;
+                    } else if (value == EXIT) {
+                        if (exit != -1) {
+                            throw new MultipleExitException("Maze has multiple exits!");
+                        }
+                        exit = row * width + column;
+                    }
+                    column++;
+                }
+            }
+        }
+        if (column > 0) {
+            if (column != width) {
+                throw new RaggedMazeException("ERROR: Maze is ragged!");
+            }
+            sink.row(row, cells);
+            row++;
+        }
+        if (entrance == -1) {
+            throw new NoEntranceException("ERROR: Maze doesn't have an entrance!");
+        }
+        if (exit == -1) {
+            throw new NoExitException("ERROR: Maze doesn't have an exit!");
+        }
+        return new int[]{row, entrance, exit};
+    }
+
+    /**
+     * Counts the lines of the file the same way scan() does, without validating them
+     * @return long number of rows
+     */
+    private long countRows() throws IOException {
+        long rows = 0;
+        boolean inLine = false;
+        boolean afterCarriageReturn = false;
+        byte[] chunk = new byte[CHUNK_SIZE];
+        for (long windowStart = 0; windowStart < this.size; windowStart += WINDOW_SIZE) {
+            MappedByteBuffer buffer = this.map(windowStart);
+            while (buffer.hasRemaining()) {
+                int length = Math.min(chunk.length, buffer.remaining());
+                buffer.get(chunk, 0, length);
+                for (int i = 0; i < length; i++) {
+                    byte b = chunk[i];
+                    if (b == '\n' && afterCarriageReturn) {
+                        afterCarriageReturn = false;
+                        continue;
+                    }
+                    afterCarriageReturn = b == '\r';
+                    if (isLineEnd(b)) {
+                        rows++;
+                        inLine = false;
+                    } else {
+                        inLine = true;
+                    }
+                }
+            }
+        }
+        return inLine ? rows + 1 : rows;
+    }
+
+    private int firstLineLength() throws IOException {
+        long length = 0;
+        search:
+        for (long windowStart = 0; windowStart < this.size; windowStart += WINDOW_SIZE) {
+            MappedByteBuffer buffer = this.map(windowStart);
+            int limit = buffer.limit();
+            for (int i = 0; i < limit; i++) {
+                if (isLineEnd(buffer.get(i))) {
+                    if (buffer.get(i) == '\r' && this.byteAt(windowStart + i + 1) == '\n') {
+                        this.terminatorLength = 2;
+                    }
+                    break search;
+                }
+                length++;
+            }
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Maze is too large to be loaded: the first row is longer than " + Integer.MAX_VALUE);
+        }
+        return (int) length;
+    }
+
+    private MappedByteBuffer map(long windowStart) throws IOException {
+        return this.channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(WINDOW_SIZE, this.size - windowStart));
+    }
+
+    /**
+     * Reads a single byte of the file, which may be outside of the current window
+     * @param position long position of the byte in the file
+     * @return Integer value of the byte, or -1 if the file ends before it
+     */
+    private int byteAt(long position) throws IOException {
+        ByteBuffer value = ByteBuffer.allocate(1);
+        if (position >= this.size || this.channel.read(value, position) != 1) {
+            return -1;
+        }
+        return value.get(0);
+    }
+
+    private static boolean isLineEnd(byte b) {
+        return b == '\n' || b == '\r';
+    }
+
+    private static void flipRows(byte[] cells, int width, int height) {
+        byte[] buffer = new byte[width];
+        for (int top = 0, bottom = height - 1; top < bottom; top++, bottom--) {
+            System.arraycopy(cells, top * width, buffer, 0, width);
+            System.arraycopy(cells, bottom * width, cells, top * width, width);
+            System.arraycopy(buffer, 0, cells, bottom * width, width);
+        }
+    }
+
+    private static int flipIndex(int index, int width, int height) {
+        int row = index / width;
+        return (height - 1 - row) * width + index % width;
+    }
+}
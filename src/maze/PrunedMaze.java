@@ -0,0 +1,168 @@
+package maze;
+
+import java.util.Arrays;
+
+/**
+ *	Handles filling the dead ends of a Maze before it is solved.
+ *  A corridor cell with at most one navigable neighbour is a dead end, and no route from the entrance to the exit
+ *  passes through it. Filling it with a wall can turn its neighbour into a dead end, so the filling goes on until none
+ *  are left - every cell is filled at most once, which makes the whole pass linear in the number of cells.
+ *  What remains are the routes between the entrance and the exit, the loops on them and parts with loops which cannot
+ *  be reached, so a solver working on the pruned Maze never walks into a dead end. The entrance and the exit are never filled.
+ *  The pruned Maze is a separate copy - cells keep their indices, so a route through it is a route through the original.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class PrunedMaze {
+    private static final byte WALL = (byte) Tile.Type.WALL.ordinal();
+
+    private final Maze original;
+    private final Maze maze;
+    private final int filledCells;
+    private final int openCells;
+    private final double fillMillis;
+
+    private PrunedMaze(Maze original, Maze maze, int filledCells, int openCells, double fillMillis) {
+        this.original = original;
+        this.maze = maze;
+        this.filledCells = filledCells;
+        this.openCells = openCells;
+        this.fillMillis = fillMillis;
+    }
+
+    /**
+     * Fills all the dead ends of a Maze. The Maze itself is not changed.
+     * @param original Maze object whose dead ends are going to be filled
+     * @return Returns the PrunedMaze with the filled copy and the statistics of the filling
+     */
+    public static PrunedMaze fillDeadEnds(Maze original) {
+        long start = System.nanoTime();
+        int width = original.getWidth();
+        int height = original.getHeight();
+        byte[] cells = original.copyCells();
+        int entrance = original.getEntranceIndex();
+        int exit = original.getExitIndex();
+
+        // number of navigable neighbours of every navigable cell, and the dead ends which are waiting to be filled
+        byte[] degrees = new byte[cells.length];
+        int[] deadEnds = new int[64];
+        int deadEndCount = 0;
+        int openCells = 0;
+        for (int y = 0, index = 0; y < height; y++) {
+            for (int x = 0; x < width; x++, index++) {
+                if (cells[index] == WALL) {
+                    continue;
+                }
+                openCells++;
+                int degree = 0;
+                if (y < height - 1 && cells[index + width] != WALL) {
+                    degree++;
+                }
+                if (x < width - 1 && cells[index + 1] != WALL) {
+                    degree++;
+                }
+                if (y > 0 && cells[index - width] != WALL) {
+                    degree++;
+                }
+                if (x > 0 && cells[index - 1] != WALL) {
+                    degree++;
+                }
+                degrees[index] = (byte) degree;
+                if (degree <= 1 && index != entrance && index != exit) {
+                    deadEnds = push(deadEnds, deadEndCount++, index);
+                }
+            }
+        }
+
+        // degrees only go down, so a cell is added when it first has one neighbour left and never again
+        int filledCells = 0;
+        while (deadEndCount > 0) {
+            int index = deadEnds[--deadEndCount];
+            cells[index] = WALL;
+            filledCells++;
+            int x = index % width;
+            if (index + width < cells.length && release(cells, degrees, index + width, entrance, exit)) {
+                deadEnds = push(deadEnds, deadEndCount++, index + width);
+            }
+            if (x < width - 1 && release(cells, degrees, index + 1, entrance, exit)) {
+                deadEnds = push(deadEnds, deadEndCount++, index + 1);
+            }
+            if (index >= width && release(cells, degrees, index - width, entrance, exit)) {
+                deadEnds = push(deadEnds, deadEndCount++, index - width);
+            }
+            if (x > 0 && release(cells, degrees, index - 1, entrance, exit)) {
+                deadEnds = push(deadEnds, deadEndCount++, index - 1);
+            }
+        }
+        Maze maze = new Maze(width, height, cells, entrance, exit);
+        return new PrunedMaze(original, maze, filledCells, openCells - filledCells, (System.nanoTime() - start) / 1e6);
+    }
+
+    /**
+     * Takes a filled cell away from the neighbours of one of its neighbours
+     * @return True if the neighbour has just become a dead end which has to be filled
+     */
+    private static boolean release(byte[] cells, byte[] degrees, int neighbour, int entrance, int exit) {
+        if (cells[neighbour] == WALL) {
+            return false;
+        }
+        return --degrees[neighbour] == 1 && neighbour != entrance && neighbour != exit;
+    }
+
+    private static int[] push(int[] stack, int size, int index) {
+        if (size == stack.length) {
+            stack = Arrays.copyOf(stack, size * 2);
+        }
+        stack[size] = index;
+        return stack;
+    }
+
+    /**
+     * Provides us with the Maze whose dead ends were filled
+     * @return Maze object of the original
+     */
+    public Maze getOriginal() {
+        return this.original;
+    }
+
+    /**
+     * Provides us with the copy of the Maze with its dead ends filled, which is the one to give to a solver
+     * @return Maze object with the dead ends turned into walls
+     */
+    public Maze getMaze() {
+        return this.maze;
+    }
+
+    /**
+     * Provides us with the number of corridor cells which were filled
+     * @return Integer count of the filled cells
+     */
+    public int getFilledCells() {
+        return this.filledCells;
+    }
+
+    /**
+     * Provides us with the number of navigable cells which are left after the filling
+     * @return Integer count of the remaining navigable cells
+     */
+    public int getOpenCells() {
+        return this.openCells;
+    }
+
+    /**
+     * Provides us with the part of the navigable cells of the original which were filled
+     * @return double between 0 and 1
+     */
+    public double getFilledFraction() {
+        int navigable = this.filledCells + this.openCells;
+        return navigable == 0 ? 0 : (double) this.filledCells / navigable;
+    }
+
+    /**
+     * Provides us with the time the filling took
+     * @return double number of milliseconds
+     */
+    public double getFillMillis() {
+        return this.fillMillis;
+    }
+}
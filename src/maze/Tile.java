@@ -19,18 +19,48 @@ public class Tile implements Serializable {
         WALL
     }
 
+    /**
+     * The highest cost of entering a cell. Corridors written as the digits 1 to 9 cost that much, all the others cost 1.
+     */
+    public static final int MAX_COST = 9;
+
     private Type type;
+    private int index = -1;
+    private int cost = 1;
 
     private Tile(Type type) {
         this.type = type;
     }
 
+    /**
+     * Package-private constructor used by Maze, which creates Tiles on demand from its packed grid of cells.
+     * @param type Type of the Tile
+     * @param index Row-major index of the cell in the Maze this Tile stands for
+     */
+    Tile(Type type, int index) {
+        this.type = type;
+        this.index = index;
+    }
+
+    /**
+     * Package-private constructor used by Maze for the cells which cost more than 1 to enter
+     * @param type Type of the Tile
+     * @param index Row-major index of the cell in the Maze this Tile stands for
+     * @param cost Integer cost of entering the cell, between 1 and MAX_COST
+     */
+    Tile(Type type, int index, int cost) {
+        this.type = type;
+        this.index = index;
+        this.cost = cost;
+    }
+
     /**
      * Sets the correct Type of the Tile depending on the parameter input.
      * 'e' is for ENTRANCE
      * '.' is for CORRIDOR
      * '#' is for WALL
      * 'X' is for EXIT
+     * '1' to '9' are for CORRIDOR, costing that much to enter
      * If a different char is found an Exception should be thrown because that means that we are trying to created a Maze from invalid Text
      *
      * @param input A Character which is later examined to check if it equals a specific pattern
@@ -38,20 +68,45 @@ public class Tile implements Serializable {
      * @throws InvalidSymbolException Indicates a problem with the character - the character is not of the 4 valid ones
      */
     protected static Tile fromChar(char input) throws InvalidSymbolException {
+        Tile tile = new Tile(typeFromChar(input));
+        tile.cost = costFromChar(input);
+        return tile;
+    }
+
+    /**
+     * Provides us with the Type which corresponds to a given character, without creating a Tile.
+     * Used by Maze while parsing, so that no Tile objects are created for the cells.
+     * @param input A Character which is examined to check if it equals a specific pattern
+     * @return Returns the Type which the character stands for
+     * @throws InvalidSymbolException Indicates a problem with the character - the character is not of the 4 valid ones
+     */
+    static Type typeFromChar(char input) throws InvalidSymbolException {
         switch (input) {
             case 'e':
-                return new Tile(Type.ENTRANCE);
+                return Type.ENTRANCE;
             case '.':
-                return new Tile(Type.CORRIDOR);
+                return Type.CORRIDOR;
             case '#':
-                return new Tile(Type.WALL);
+                return Type.WALL;
             case 'x':
-                return new Tile(Type.EXIT);
+                return Type.EXIT;
             default:
+                if (input >= '1' && input <= '9') {
+                    return Type.CORRIDOR;
+                }
                 throw new InvalidSymbolException("Maze has an invalid symbol");
         }
     }
 
+    /**
+     * Provides us with the cost of entering a cell which is written as a given character
+     * @param input A Character which is examined to check if it is a digit
+     * @return Returns the value of the digits 1 to 9, and 1 for any other character
+     */
+    static int costFromChar(char input) {
+        return input >= '1' && input <= '9' ? input - '0' : 1;
+    }
+
     /**
      * Provides us with the Type of the Tile
      *
@@ -61,6 +116,22 @@ public class Tile implements Serializable {
         return this.type;
     }
 
+    /**
+     * Provides us with the cost of entering the Tile, which weighted routes add up
+     * @return Integer between 1 and MAX_COST for the weighted corridors, exactly 1 for all the other Tiles
+     */
+    public int getCost() {
+        return this.cost;
+    }
+
+    /**
+     * Provides us with the row-major index of the cell in the Maze this Tile stands for
+     * @return Integer index of the cell, or -1 if the Tile was not created by a Maze
+     */
+    int getIndex() {
+        return this.index;
+    }
+
     /**
      * Provides us with information whether the Tile is navigable.
      * All Tiles except the ones with Type WALL are navigable
@@ -84,9 +155,13 @@ public class Tile implements Serializable {
      * Provides us with the String representation of the Tile depending on its Type
      *
      * @return Returns "e" if Type is ENTRANCE, "x" if Type is EXIT, "#" if Type is WALL, "." if Type is WALL,
+     * the digit of its cost if it is a CORRIDOR which costs more than 1,
      * or "~" if Type is something else, which will throw an exception later.
      */
     public String toString() {
+        if (this.cost > 1) {
+            return String.valueOf(this.cost);
+        }
         switch (this.type) {
             case ENTRANCE:
                 return "e";
@@ -100,4 +175,31 @@ public class Tile implements Serializable {
                 return "~";
         }
     }
+
+    /**
+     * Two Tiles are equal if they stand for the same cell of a Maze.
+     * Tiles are created on demand by the Maze, so the same cell may be represented by several Tile objects.
+     * @param o Object which is compared to this Tile
+     * @return True if o is a Tile with the same index and Type, False otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Tile)) {
+            return false;
+        }
+        Tile other = (Tile) o;
+        return this.index != -1 && this.index == other.index && this.type == other.type;
+    }
+
+    /**
+     * Provides us with a hash code consistent with equals()
+     * @return Integer hash code based on the index and the Type of the Tile
+     */
+    @Override
+    public int hashCode() {
+        return 31 * this.index + this.type.ordinal();
+    }
 }
@@ -0,0 +1,166 @@
+package maze.batch;
+
+import java.nio.file.Path;
+
+/**
+ *	Handles the outcome of solving a single maze file in a batch.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class BatchResult {
+    /**
+     * An Enum with the possible outcomes of solving a file.
+     * SOLVED - a route to the exit was found, NO_ROUTE - the exit cannot be reached,
+     * TIMED_OUT - the search ran out of time, FAILED - the file could not be read or is not a valid maze.
+     */
+    public enum Status {
+        SOLVED,
+        NO_ROUTE,
+        TIMED_OUT,
+        FAILED
+    }
+
+    private final Path file;
+    private final Status status;
+    private final String failure;
+    private final int width;
+    private final int height;
+    private final double parseMillis;
+    private final double fillMillis;
+    private final double solveMillis;
+    private final int routeLength;
+    private final int nodesExpanded;
+    private final int filledCells;
+
+    /**
+     * A constructor for creating new Objects of type BatchResult
+     * @param file Path of the maze file
+     * @param status Status of the outcome
+     * @param failure String - the class and the message of the exception which made the file fail, or null
+     * @param width Integer - number of columns of the Maze, 0 if it could not be read
+     * @param height Integer - number of rows of the Maze, 0 if it could not be read
+     * @param parseMillis double - time taken to read the file, in milliseconds
+     * @param fillMillis double - time taken to fill the dead ends, in milliseconds, 0 if they were not filled
+     * @param solveMillis double - time taken by the search, in milliseconds
+     * @param routeLength Integer - number of cells on the route, 0 unless it is SOLVED
+     * @param nodesExpanded Integer - number of cells the search expanded
+     * @param filledCells Integer - number of dead end cells which were filled before the search
+     */
+    BatchResult(Path file, Status status, String failure, int width, int height, double parseMillis, double fillMillis,
+                double solveMillis, int routeLength, int nodesExpanded, int filledCells) {
+        this.file = file;
+        this.status = status;
+        this.failure = failure;
+        this.width = width;
+        this.height = height;
+        this.parseMillis = parseMillis;
+        this.fillMillis = fillMillis;
+        this.solveMillis = solveMillis;
+        this.routeLength = routeLength;
+        this.nodesExpanded = nodesExpanded;
+        this.filledCells = filledCells;
+    }
+
+    /**
+     * Creates the result of a file which could not be read or solved
+     * @param file Path of the maze file
+     * @param exception Throwable which made the file fail
+     * @param parseMillis double - time taken until the failure, in milliseconds
+     * @return Returns the new BatchResult
+     */
+    static BatchResult failed(Path file, Throwable exception, double parseMillis) {
+        String failure = exception.getClass().getSimpleName();
+        if (exception.getMessage() != null) {
+            failure += ": " + exception.getMessage();
+        }
+        return new BatchResult(file, Status.FAILED, failure, 0, 0, parseMillis, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Provides us with the maze file the result is for
+     * @return Path of the file
+     */
+    public Path getFile() {
+        return this.file;
+    }
+
+    /**
+     * Provides us with the outcome of solving the file
+     * @return Status of the outcome
+     */
+    public Status getStatus() {
+        return this.status;
+    }
+
+    /**
+     * A method which provides us with the reason a file failed
+     * @return String with the simple name of the exception class and its message, or null if the file did not fail
+     */
+    public String getFailure() {
+        return this.failure;
+    }
+
+    /**
+     * Provides us with the number of columns in the Maze
+     * @return Integer width of the Maze, 0 if it could not be read
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Provides us with the number of rows in the Maze
+     * @return Integer height of the Maze, 0 if it could not be read
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Provides us with the time taken to read the file
+     * @return double number of milliseconds
+     */
+    public double getParseMillis() {
+        return this.parseMillis;
+    }
+
+    /**
+     * Provides us with the time taken to fill the dead ends before the search
+     * @return double number of milliseconds, 0 if they were not filled
+     */
+    public double getFillMillis() {
+        return this.fillMillis;
+    }
+
+    /**
+     * Provides us with the time taken by the search
+     * @return double number of milliseconds
+     */
+    public double getSolveMillis() {
+        return this.solveMillis;
+    }
+
+    /**
+     * Provides us with the number of cells on the route, the entrance and the exit included
+     * @return Integer length of the route, 0 unless the file is SOLVED
+     */
+    public int getRouteLength() {
+        return this.routeLength;
+    }
+
+    /**
+     * Provides us with the number of cells the search expanded
+     * @return Integer count of the expanded cells
+     */
+    public int getNodesExpanded() {
+        return this.nodesExpanded;
+    }
+
+    /**
+     * Provides us with the number of dead end cells which were filled before the search
+     * @return Integer count of the filled cells, 0 if they were not filled
+     */
+    public int getFilledCells() {
+        return this.filledCells;
+    }
+}
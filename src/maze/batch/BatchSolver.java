@@ -0,0 +1,293 @@
+package maze.batch;
+
+import maze.Maze;
+import maze.PrunedMaze;
+import maze.Tile;
+import maze.routing.MazeSolver;
+import maze.routing.RoutingMetrics;
+import maze.routing.SolverStrategy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ *	Handles solving many maze files at once, without a user interface.
+ *  Every file is read and solved as a separate task on a fixed pool of worker threads,
+ *  so a corpus of many mazes keeps all the workers busy. A file which fails never stops the others -
+ *  the reason is recorded in its BatchResult instead.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class BatchSolver {
+    private static final String GLOB_CHARACTERS = "*?[{";
+    // the directory under the route directory which mirrors the absolute paths of the files outside the working directory
+    private static final String EXTERNAL_DIRECTORY = "external";
+
+    private final SolverStrategy strategy;
+    private final int threads;
+    private final long timeoutMillis;
+    private final Path routeDirectory;
+    private final boolean fillDeadEnds;
+    private final boolean checkReachability;
+    // every worker keeps one solver and resets it for each file, so its buffers are reused across the batch
+    private final ThreadLocal<MazeSolver> solvers = new ThreadLocal<>();
+
+    /**
+     * A public constructor for creating new Objects of type BatchSolver
+     * @param strategy SolverStrategy which is used for every maze
+     * @param threads Integer - number of worker threads, at least 1
+     * @param timeoutMillis long - the maximum time in milliseconds the search of a single maze may take
+     * @param routeDirectory Path of the directory the routes are written to, or null if they should not be written
+     * @param fillDeadEnds Boolean - True if the dead ends of every maze should be filled before it is solved
+     * @param checkReachability Boolean - True if every maze should be checked for a route before it is searched,
+     * so that a maze without one is rejected in a single pass over its cells
+     */
+    public BatchSolver(SolverStrategy strategy, int threads, long timeoutMillis, Path routeDirectory, boolean fillDeadEnds,
+                       boolean checkReachability) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("There has to be at least one worker thread");
+        }
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("Timeout has to be positive");
+        }
+        this.strategy = strategy;
+        this.threads = threads;
+        this.timeoutMillis = timeoutMillis;
+        this.routeDirectory = routeDirectory;
+        this.fillDeadEnds = fillDeadEnds;
+        this.checkReachability = checkReachability;
+    }
+
+    /**
+     * Finds the maze files described by a pattern.
+     * A directory gives all the .txt files directly inside it, a glob such as "mazes/**.txt" gives the files
+     * matching it below the part of the pattern without glob characters, and anything else is taken as a single file.
+     * @param pattern String with a directory, a glob or a file
+     * @return List of the Paths of the files, sorted
+     * @throws IOException Indicates a problem with listing a directory
+     */
+    public static List<Path> findMazes(String pattern) throws IOException {
+        int glob = indexOfGlob(pattern);
+        if (glob == -1) {
+            Path path = Paths.get(pattern);
+            if (!Files.isDirectory(path)) {
+                return List.of(path);
+            }
+            try (Stream<Path> files = Files.list(path)) {
+                return files.filter(file -> Files.isRegularFile(file) && file.toString().endsWith(".txt"))
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+        }
+        // the walk starts from the directories before the first glob character
+        int separator = separatorBefore(pattern, glob);
+        Path root = separator == -1 ? Paths.get(".") : Paths.get(pattern.substring(0, separator + 1));
+        String relativePattern = pattern.substring(separator + 1);
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + relativePattern);
+        List<Path> matches = new ArrayList<>();
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if (attributes.isRegularFile() && matcher.matches(root.relativize(file))) {
+                    matches.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        matches.sort(null);
+        return matches;
+    }
+
+    private static int separatorBefore(String pattern, int end) {
+        String prefix = pattern.substring(0, end);
+        return Math.max(prefix.lastIndexOf('/'), prefix.lastIndexOf(FileSystems.getDefault().getSeparator()));
+    }
+
+    private static int indexOfGlob(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            if (GLOB_CHARACTERS.indexOf(pattern.charAt(i)) != -1) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads and solves every file on the worker threads and waits for all of them to finish.
+     * Routes are written to the route directory under the path of the maze file relative to the working directory,
+     * with ".route.txt" in place of its extension. Files outside the working directory are written under "external",
+     * followed by their absolute path.
+     * @param files List of the Paths of the maze files
+     * @return List of BatchResults, in the same order as the files
+     * @throws InterruptedException Indicates that the calling thread was interrupted while waiting
+     * @throws IllegalArgumentException Indicates that a file is given twice, or that the routes of two files
+     * would be written to the same path - nothing is solved then
+     */
+    public List<BatchResult> solveAll(List<Path> files) throws InterruptedException {
+        if (this.routeDirectory != null) {
+            this.checkRoutePaths(files);
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(this.threads, new ThreadFactory() {
+            private int count = 0;
+
+            @Override
+            public synchronized Thread newThread(Runnable task) {
+                Thread thread = new Thread(task, "maze-batch-" + ++this.count);
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            List<Future<BatchResult>> futures = new ArrayList<>(files.size());
+            for (Path file : files) {
+                futures.add(pool.submit(() -> this.solve(file)));
+            }
+            List<BatchResult> results = new ArrayList<>(files.size());
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    // solve() catches Exceptions, so only Errors such as OutOfMemoryError end up here
+                    results.add(BatchResult.failed(files.get(i), e.getCause(), 0));
+                }
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads and solves a single file
+     * @param file Path of the maze file
+     * @return Returns the BatchResult of the file
+     */
+    BatchResult solve(Path file) {
+        long start = System.nanoTime();
+        Maze maze;
+        try {
+            maze = Maze.fromTxt(file.toString());
+        } catch (Exception e) {
+            return BatchResult.failed(file, e, millisSince(start));
+        }
+        RoutingMetrics.recordPhase(RoutingMetrics.Phase.PARSE, System.nanoTime() - start);
+        double parseMillis = millisSince(start);
+
+        double fillMillis = 0;
+        int filledCells = 0;
+        Maze searched = maze;
+        if (this.fillDeadEnds) {
+            start = System.nanoTime();
+            PrunedMaze pruned = PrunedMaze.fillDeadEnds(maze);
+            RoutingMetrics.recordPhase(RoutingMetrics.Phase.PREPROCESS, System.nanoTime() - start);
+            fillMillis = pruned.getFillMillis();
+            filledCells = pruned.getFilledCells();
+            searched = pruned.getMaze();
+        }
+
+        start = System.nanoTime();
+        MazeSolver solver = this.solvers.get();
+        if (solver == null) {
+            solver = this.strategy.create(searched);
+            this.solvers.set(solver);
+        } else {
+            solver.reset(searched);
+        }
+        solver.setReachabilityCheck(this.checkReachability);
+        solver.solve(this.timeoutMillis);
+        double solveMillis = millisSince(start);
+        BatchResult.Status status;
+        switch (solver.getOutcome()) {
+            case ROUTE_FOUND:
+                status = BatchResult.Status.SOLVED;
+                break;
+            case NO_ROUTE:
+                status = BatchResult.Status.NO_ROUTE;
+                break;
+            default:
+                status = BatchResult.Status.TIMED_OUT;
+        }
+        int routeLength = 0;
+        if (status == BatchResult.Status.SOLVED) {
+            List<Tile> route = solver.getRoute();
+            routeLength = route.size();
+            if (this.routeDirectory != null) {
+                start = System.nanoTime();
+                try {
+                    this.writeRoute(this.routePath(file), maze, route);
+                } catch (IOException e) {
+                    return BatchResult.failed(file, e, parseMillis);
+                }
+                RoutingMetrics.recordPhase(RoutingMetrics.Phase.SERIALISE, System.nanoTime() - start);
+            }
+        }
+        return new BatchResult(file, status, null, maze.getWidth(), maze.getHeight(), parseMillis, fillMillis, solveMillis,
+                routeLength, solver.getNodesExpanded(), filledCells);
+    }
+
+    /**
+     * Makes sure that no two files share a route path, so that no route overwrites another one
+     */
+    private void checkRoutePaths(List<Path> files) {
+        Map<Path, Path> filesByRoute = new HashMap<>();
+        for (Path file : files) {
+            Path other = filesByRoute.putIfAbsent(this.routePath(file), file);
+            if (other != null) {
+                throw new IllegalArgumentException("The routes of " + other + " and " + file + " would both be written to "
+                        + this.routePath(file));
+            }
+        }
+    }
+
+    private Path routePath(Path file) {
+        Path absolute = file.toAbsolutePath().normalize();
+        Path relative;
+        try {
+            relative = Paths.get("").toAbsolutePath().relativize(absolute);
+        } catch (IllegalArgumentException e) {
+            // the file is on another drive
+            relative = null;
+        }
+        if (relative == null || relative.startsWith("..")) {
+            Path root = absolute.getRoot();
+            // the drive of a Windows path, e.g. "C" of "C:\", keeps the files of different drives apart
+            String drive = root.toString().replaceAll("[:/\\\\]", "");
+            relative = Paths.get(EXTERNAL_DIRECTORY);
+            if (!drive.isEmpty()) {
+                relative = relative.resolve(drive);
+            }
+            relative = relative.resolve(root.relativize(absolute));
+        }
+        String name = relative.getFileName().toString();
+        if (name.endsWith(".txt")) {
+            name = name.substring(0, name.length() - ".txt".length());
+        }
+        return this.routeDirectory.resolve(relative).resolveSibling(name + ".route.txt");
+    }
+
+    /**
+     * Writes a route as the coordinates of its cells, one per line, from the entrance to the exit
+     */
+    private void writeRoute(Path path, Maze maze, List<Tile> route) throws IOException {
+        Files.createDirectories(path.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (Tile tile : route) {
+                writer.write(maze.getTileLocation(tile).toString());
+                writer.newLine();
+            }
+        }
+    }
+
+    private static double millisSince(long start) {
+        return (System.nanoTime() - start) / 1e6;
+    }
+}
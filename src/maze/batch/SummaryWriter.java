@@ -0,0 +1,123 @@
+package maze.batch;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ *	Handles writing the summary of a batch as CSV or JSON, with one record per maze file.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class SummaryWriter {
+    private static final String[] COLUMNS = {
+            "file", "status", "width", "height", "parseMillis", "fillMillis", "solveMillis", "routeLength", "nodesExpanded",
+            "filledCells", "failure"
+    };
+
+    private SummaryWriter() {
+    }
+
+    /**
+     * Writes the results as CSV, with a header line and the columns in the order of COLUMNS
+     * @param results List of BatchResults
+     * @param path Path of the file which is going to be written
+     * @throws IOException Indicates a problem with writing the file
+     */
+    public static void writeCsv(List<BatchResult> results, Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+            for (BatchResult result : results) {
+                String[] values = values(result);
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(csvField(values[i]));
+                }
+                writer.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Writes the results as a JSON array of objects, with the keys of COLUMNS.
+     * Numbers are written as JSON numbers and a missing failure as null.
+     * @param results List of BatchResults
+     * @param path Path of the file which is going to be written
+     * @throws IOException Indicates a problem with writing the file
+     */
+    public static void writeJson(List<BatchResult> results, Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("[\n");
+            for (int r = 0; r < results.size(); r++) {
+                String[] values = values(results.get(r));
+                writer.write("  {");
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        writer.write(", ");
+                    }
+                    writer.write(jsonString(COLUMNS[i]));
+                    writer.write(": ");
+                    boolean text = i < 2 || i == values.length - 1;
+                    writer.write(values[i] == null ? "null" : text ? jsonString(values[i]) : values[i]);
+                }
+                writer.write(r < results.size() - 1 ? "},\n" : "}\n");
+            }
+            writer.write("]\n");
+        }
+    }
+
+    private static String[] values(BatchResult result) {
+        return new String[]{
+                result.getFile().toString(),
+                result.getStatus().toString(),
+                Integer.toString(result.getWidth()),
+                Integer.toString(result.getHeight()),
+                String.format(Locale.ROOT, "%.3f", result.getParseMillis()),
+                String.format(Locale.ROOT, "%.3f", result.getFillMillis()),
+                String.format(Locale.ROOT, "%.3f", result.getSolveMillis()),
+                Integer.toString(result.getRouteLength()),
+                Integer.toString(result.getNodesExpanded()),
+                Integer.toString(result.getFilledCells()),
+                result.getFailure()
+        };
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') == -1 && value.indexOf('"') == -1 && value.indexOf('\n') == -1 && value.indexOf('\r') == -1) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String jsonString(String value) {
+        StringBuilder output = new StringBuilder(value.length() + 2);
+        output.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                output.append('\\').append(c);
+            } else if (c == '\n') {
+                output.append("\\n");
+            } else if (c == '\r') {
+                output.append("\\r");
+            } else if (c == '\t') {
+                output.append("\\t");
+            } else if (c < 0x20) {
+                output.append(String.format("\\u%04x", (int) c));
+            } else {
+                output.append(c);
+            }
+        }
+        return output.append('"').toString();
+    }
+}
@@ -0,0 +1,114 @@
+package maze.routing;
+
+import maze.Maze;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ *	Class handling an A* search of the Maze, guided by the Manhattan distance to the exit.
+ *  The found route is always one of the shortest routes from the entrance to the exit.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class AStarSolver extends AbstractMazeSolver {
+    private IndexHeap open;
+    private int[] distances;
+    private byte[] parents;
+    private BitSet visited;
+    private BitSet closed;
+    private int exitX;
+    private int exitY;
+    private int last;
+
+    /**
+     * A public constructor for creating new Objects of type AStarSolver using a Maze object as a parameter
+     * @param maze Maze object which is going to be solved
+     */
+    public AStarSolver(Maze maze) {
+        super(maze);
+    }
+
+    @Override
+    protected void start() {
+        int cellCount = this.maze.getCellCount();
+        if (this.open == null) {
+            this.open = new IndexHeap(1024);
+        }
+        this.open.clear();
+        this.distances = reuse(this.distances, cellCount);
+        Arrays.fill(this.distances, 0, cellCount, Integer.MAX_VALUE);
+        this.parents = reuse(this.parents, cellCount);
+        this.visited = reuse(this.visited, cellCount);
+        this.closed = reuse(this.closed, cellCount);
+        int exit = this.maze.getExitIndex();
+        this.exitX = exit % this.maze.getWidth();
+        this.exitY = exit / this.maze.getWidth();
+        int entrance = this.maze.getEntranceIndex();
+        this.distances[entrance] = 0;
+        clearParent(this.parents, entrance);
+        this.visit(entrance, this.visited);
+        this.open.push(this.key(entrance, 0), entrance);
+        this.last = entrance;
+    }
+
+    @Override
+    protected boolean expand() {
+        int current = -1;
+        while (!this.open.isEmpty()) {
+            int candidate = this.open.pop();
+            if (!this.closed.get(candidate)) {
+                current = candidate;
+                break;
+            }
+        }
+        if (current == -1) {
+            this.exhausted = true;
+            return true;
+        }
+        this.closed.set(current);
+        this.nodesExpanded++;
+        this.last = current;
+        int exit = this.maze.getExitIndex();
+        int distance = this.distances[current] + 1;
+        boolean reachedNew = false;
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            int next = this.maze.getAdjacentIndex(current, DIRECTIONS[d]);
+            if (next == -1 || this.closed.get(next) || !this.maze.isNavigable(next) || distance >= this.distances[next]) {
+                continue;
+            }
+            this.distances[next] = distance;
+            this.visit(next, this.visited);
+            setParent(this.parents, next, d);
+            if (next == exit) {
+                // the Manhattan distance is consistent, so the exit is never reached more cheaply later
+                this.last = next;
+                this.finished = true;
+                return true;
+            }
+            this.open.push(this.key(next, distance), next);
+            reachedNew = true;
+        }
+        if (!reachedNew) {
+            this.metrics.deadEnds++;
+        }
+        this.metrics.frontier(this.open.size());
+        return false;
+    }
+
+    private long key(int index, int distance) {
+        int width = this.maze.getWidth();
+        int heuristic = Math.abs(index % width - this.exitX) + Math.abs(index / width - this.exitY);
+        // ties on the estimated length are broken towards the cell closer to the exit
+        return ((long) (distance + heuristic) << 32) | heuristic;
+    }
+
+    @Override
+    protected int[] currentRoute() {
+        return this.pathTo(this.parents, this.last);
+    }
+
+    @Override
+    protected boolean isExplored(int index) {
+        return this.visited.get(index);
+    }
+}
@@ -0,0 +1,449 @@
+package maze.routing;
+
+import maze.Maze;
+import maze.Tile;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *	Handles the parts which are common to the solvers that search the Maze by cell index.
+ *  Parents are kept as one byte per cell - the Direction of the move into the cell - so routes can be rebuilt
+ *  without keeping a Tile or an int for every visited cell.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public abstract class AbstractMazeSolver implements MazeSolver {
+    /**
+     * The order in which the neighbours of a cell are examined - the same as in RouteFinder
+     */
+    protected static final Maze.Direction[] DIRECTIONS = {
+            Maze.Direction.NORTH, Maze.Direction.EAST, Maze.Direction.SOUTH, Maze.Direction.WEST
+    };
+    private static final Maze.Direction[] OPPOSITES = {
+            Maze.Direction.SOUTH, Maze.Direction.WEST, Maze.Direction.NORTH, Maze.Direction.EAST
+    };
+
+    private static final int[] NO_ROUTE = new int[0];
+
+    protected Maze maze;
+    protected boolean finished = false;
+    protected boolean exhausted = false;
+    protected int nodesExpanded = 0;
+    protected final SearchMetrics metrics = new SearchMetrics();
+    private boolean started = false;
+    private boolean reported = false;
+    private boolean checkReachability = false;
+    // the labels of the last Maze whose reachability was checked, kept for the following searches of the same Maze
+    // until it is edited
+    private ConnectedComponents components;
+    private final SearchListeners listeners = new SearchListeners();
+    // The route the listeners were last told about
+    private int[] publishedRoute = NO_ROUTE;
+
+    /**
+     * Constructor which assigns the Maze that is going to be solved
+     * @param maze Maze object which is assigned to the field named maze
+     */
+    protected AbstractMazeSolver(Maze maze) {
+        this.maze = maze;
+        this.metrics.clear(maze);
+    }
+
+    /**
+     * Starts the search over on a given Maze. The subclasses reuse their arrays when start() is called again.
+     * @param maze Maze object which is going to be solved
+     */
+    @Override
+    public void reset(Maze maze) {
+        this.maze = maze;
+        this.finished = false;
+        this.exhausted = false;
+        this.nodesExpanded = 0;
+        this.started = false;
+        this.reported = false;
+        this.publishedRoute = NO_ROUTE;
+        this.metrics.clear(maze);
+    }
+
+    @Override
+    public Maze getMaze() {
+        return this.maze;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.finished;
+    }
+
+    @Override
+    public SearchOutcome getOutcome() {
+        if (this.finished) {
+            return SearchOutcome.ROUTE_FOUND;
+        }
+        return this.exhausted ? SearchOutcome.NO_ROUTE : SearchOutcome.IN_PROGRESS;
+    }
+
+    @Override
+    public void setReachabilityCheck(boolean check) {
+        this.checkReachability = check;
+    }
+
+    @Override
+    public int getNodesExpanded() {
+        return this.nodesExpanded;
+    }
+
+    @Override
+    public SearchMetrics getMetrics() {
+        this.metrics.nodesExpanded = this.nodesExpanded;
+        this.metrics.readChunks(this.maze);
+        return this.metrics;
+    }
+
+    @Override
+    public void addSearchListener(SearchListener listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeSearchListener(SearchListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * A method which generates the next state of the search.
+     * The first call only sets up the search from the entrance, every following call expands one cell.
+     * @return Boolean value. True if an exit is found or if it is sure that the exit cannot be reached.
+     * False in any other case.
+     */
+    @Override
+    public boolean step() {
+        long start = System.nanoTime();
+        long preprocessed = this.metrics.preprocessNanos;
+        boolean over = this.advance();
+        this.publishRoute();
+        this.searched(start, preprocessed, over);
+        return over;
+    }
+
+    @Override
+    public boolean step(int steps) {
+        long start = System.nanoTime();
+        long preprocessed = this.metrics.preprocessNanos;
+        boolean over = false;
+        for (int i = 0; i < steps && !over; i++) {
+            over = this.advance();
+        }
+        this.publishRoute();
+        this.searched(start, preprocessed, over);
+        return over;
+    }
+
+    private boolean advance() {
+        if (this.finished || this.exhausted) {
+            return true;
+        }
+        this.metrics.steps++;
+        if (!this.started) {
+            if (this.checkReachability && !this.isExitReachable()) {
+                // the search ends before it starts, so its route stays empty
+                this.exhausted = true;
+                return true;
+            }
+            this.started = true;
+            this.start();
+            return false;
+        }
+        return this.expand();
+    }
+
+    /**
+     * Labels the components of the Maze, unless they were labelled for an earlier search of the same Maze
+     * and it was not edited since, and checks whether the exit is in the component of the entrance
+     * @return True if there is a route from the entrance to the exit
+     */
+    private boolean isExitReachable() {
+        if (this.components == null || this.components.getMaze() != this.maze || !this.components.isCurrent()) {
+            long start = System.nanoTime();
+            this.components = ConnectedComponents.label(this.maze);
+            this.metrics.preprocessNanos += System.nanoTime() - start;
+        }
+        return this.components.isExitReachable();
+    }
+
+    @Override
+    public boolean solve() {
+        return this.solve(Long.MAX_VALUE);
+    }
+
+    /**
+     * Runs the search, for at most a given time, by expanding cells in a loop.
+     * The solvers keep their whole state in primitive arrays, so no objects are created per expanded cell.
+     * The listeners are told about the changes of the route only once, when the method returns.
+     * @param timeoutMillis long - the maximum time in milliseconds the search may run for
+     * @return Boolean value. True if an exit is found or if it is sure that the exit cannot be reached.
+     * False if the time ran out first.
+     */
+    @Override
+    public boolean solve(long timeoutMillis) {
+        long budget = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        long start = System.nanoTime();
+        long preprocessed = this.metrics.preprocessNanos;
+        int iterations = 0;
+        boolean over;
+        int checkInterval = this.timeoutCheckInterval();
+        while (!(over = this.advance())) {
+            if (++iterations % checkInterval == 0 && System.nanoTime() - start >= budget) {
+                break;
+            }
+        }
+        this.publishRoute();
+        this.searched(start, preprocessed, over);
+        return over;
+    }
+
+    /**
+     * Adds the time of a call to the search time and reports the search to RoutingMetrics once it is over
+     * @param start long - System.nanoTime() at the start of the call
+     * @param preprocessed long - the preprocessing time at the start of the call, which is not counted as searching
+     * @param over Boolean - True if the search is over
+     */
+    private void searched(long start, long preprocessed, boolean over) {
+        this.metrics.searchNanos += System.nanoTime() - start - (this.metrics.preprocessNanos - preprocessed);
+        if (over && !this.reported) {
+            this.reported = true;
+            RoutingMetrics.searchFinished(this, this.getMetrics());
+        }
+    }
+
+    /**
+     * Tells the listeners how the route changed since they were last told about it.
+     * Only the cells after the part the old and the new route have in common are sent.
+     */
+    private void publishRoute() {
+        if (this.listeners.isEmpty() || !this.started) {
+            return;
+        }
+        int[] route = this.currentRoute();
+        int common = 0;
+        while (common < route.length && common < this.publishedRoute.length && route[common] == this.publishedRoute[common]) {
+            common++;
+        }
+        for (int i = this.publishedRoute.length - 1; i >= common; i--) {
+            this.listeners.routeCellRemoved(this.publishedRoute[i]);
+        }
+        for (int i = common; i < route.length; i++) {
+            this.listeners.routeCellAdded(route[i]);
+        }
+        this.publishedRoute = route;
+    }
+
+    @Override
+    public List<Tile> getRoute() {
+        List<Tile> tileList = new ArrayList<>();
+        if (!this.started) {
+            return tileList;
+        }
+        for (int index : this.currentRoute()) {
+            tileList.add(this.maze.getTileAtIndex(index));
+        }
+        return tileList;
+    }
+
+    /**
+     * Sets up the search. Called by the first step(), also after a reset() - the arrays of the previous search
+     * should then be reused with reuse(), and all the other state of the search set up again.
+     */
+    protected abstract void start();
+
+    /**
+     * Expands one cell of the search. Sets finished or exhausted when the search is over.
+     * @return Boolean value. True if the search is over, False otherwise.
+     */
+    protected abstract boolean expand();
+
+    /**
+     * Provides us with the cell indices of the current route - the final route once finished,
+     * or the route to the most recently expanded cell while searching.
+     * @return Array of cell indices ordered from the entrance onwards
+     */
+    protected abstract int[] currentRoute();
+
+    /**
+     * Provides us with information whether a cell has been reached by the search
+     * @param index Integer index of the cell
+     * @return True if the cell was visited
+     */
+    protected abstract boolean isExplored(int index);
+
+    /**
+     * Marks a cell as reached by the search and, if it was not reached before, tells the listeners about it
+     * @param index Integer index of the cell
+     * @param visited BitSet of the cells already reached by the search
+     */
+    protected void visit(int index, BitSet visited) {
+        if (!visited.get(index)) {
+            visited.set(index);
+            this.notifyExplored(index);
+        }
+    }
+
+    /**
+     * Tells the listeners that a cell was reached by the search. Has to be called on the thread which runs the search.
+     * @param index Integer index of the cell
+     */
+    protected void notifyExplored(int index) {
+        this.listeners.cellExplored(index);
+    }
+
+    /**
+     * Tells the listeners that a cell is no longer reached by the search, because a change of the Maze cut it off.
+     * Has to be called on the thread which runs the search.
+     * @param index Integer index of the cell
+     */
+    protected void notifyUnexplored(int index) {
+        this.listeners.cellUnexplored(index);
+    }
+
+    /**
+     * Provides us with the number of steps solve(timeout) makes between two readings of the clock
+     * @return Integer number of steps, RouteFinder.TIMEOUT_CHECK_INTERVAL unless a solver's steps are expensive
+     */
+    protected int timeoutCheckInterval() {
+        return RouteFinder.TIMEOUT_CHECK_INTERVAL;
+    }
+
+    /**
+     * Checks whether the search may move to the cell at a given index
+     * @param index Integer index of the cell, or -1
+     * @param visited BitSet of the cells already reached by the search
+     * @return True if the cell is in the Maze, navigable and not visited yet
+     */
+    protected boolean canVisit(int index, BitSet visited) {
+        return index != -1 && !visited.get(index) && this.maze.isNavigable(index);
+    }
+
+    /**
+     * Provides us with an array of at least a given length, which is the given one if it is long enough.
+     * The contents of a reused array are left as they are.
+     * @param buffer int array of a previous search, or null
+     * @param length Integer - the needed length
+     * @return int array of at least the given length
+     */
+    protected static int[] reuse(int[] buffer, int length) {
+        return buffer != null && buffer.length >= length ? buffer : new int[length];
+    }
+
+    /**
+     * Provides us with an array of at least a given length, which is the given one if it is long enough.
+     * The contents of a reused array are left as they are - a parents array only has to have its roots cleared,
+     * as the parent of every other cell is set when the cell is reached.
+     * @param buffer byte array of a previous search, or null
+     * @param length Integer - the needed length
+     * @return byte array of at least the given length
+     */
+    protected static byte[] reuse(byte[] buffer, int length) {
+        return buffer != null && buffer.length >= length ? buffer : new byte[length];
+    }
+
+    /**
+     * Provides us with an empty BitSet, which is the given one cleared if there is one
+     * @param set BitSet of a previous search, or null
+     * @param size Integer - number of bits a new BitSet is sized for
+     * @return Returns an empty BitSet
+     */
+    protected static BitSet reuse(BitSet set, int size) {
+        if (set == null) {
+            return new BitSet(size);
+        }
+        set.clear();
+        return set;
+    }
+
+    /**
+     * Marks a cell as a root of the search, which has no parent
+     * @param parents byte array with one entry per cell
+     * @param index Integer index of the root cell
+     */
+    protected static void clearParent(byte[] parents, int index) {
+        parents[index] = 0;
+    }
+
+    /**
+     * Records the move by which a cell was reached
+     * @param parents byte array with one entry per cell
+     * @param index Integer index of the reached cell
+     * @param direction Integer position in DIRECTIONS of the move into the cell
+     */
+    protected static void setParent(byte[] parents, int index, int direction) {
+        parents[index] = (byte) (direction + 1);
+    }
+
+    /**
+     * Provides us with the cell from which a given cell was reached
+     * @param parents byte array with one entry per cell
+     * @param index Integer index of the cell
+     * @return Integer index of the parent cell, or -1 if the cell is the root of the search
+     */
+    protected int parentOf(byte[] parents, int index) {
+        int direction = parents[index] - 1;
+        if (direction < 0) {
+            return -1;
+        }
+        return this.maze.getAdjacentIndex(index, OPPOSITES[direction]);
+    }
+
+    /**
+     * Rebuilds the route from the root of a search to a given cell by following the parents
+     * @param parents byte array with one entry per cell
+     * @param index Integer index of the last cell of the route
+     * @return Array of cell indices ordered from the root to the given cell
+     */
+    protected int[] pathTo(byte[] parents, int index) {
+        int length = 0;
+        for (int current = index; current != -1; current = this.parentOf(parents, current)) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int current = index; current != -1; current = this.parentOf(parents, current)) {
+            path[--length] = current;
+        }
+        return path;
+    }
+
+    /**
+     * Method which transforms the solver to a String, in the same format as RouteFinder.
+     * Cells on the current route are shown as "*", other explored cells as "-".
+     * @return Returns the created StringBuilder's function toString().
+     */
+    @Override
+    public String toString() {
+        if (!this.started) {
+            return this.maze.toString();
+        }
+        BitSet onRoute = new BitSet(this.maze.getCellCount());
+        for (int index : this.currentRoute()) {
+            onRoute.set(index);
+        }
+        int width = this.maze.getWidth();
+        int height = this.maze.getHeight();
+        StringBuilder output = new StringBuilder(height * (width + 1));
+        for (int i = 0; i < height; i++) {
+            int rowStart = (height - 1 - i) * width;
+            for (int j = 0; j < width; j++) {
+                int index = rowStart + j;
+                if (onRoute.get(index)) {
+                    output.append('*');
+                } else if (this.isExplored(index)) {
+                    output.append('-');
+                } else {
+                    output.append(this.maze.getTileAtIndex(index).toString());
+                }
+            }
+            output.append("\n");
+        }
+        return output.toString();
+    }
+}
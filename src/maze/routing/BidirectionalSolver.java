@@ -0,0 +1,132 @@
+package maze.routing;
+
+import maze.Maze;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ *	Class handling a bidirectional breadth-first search, growing one search from the entrance and one from the exit.
+ *  Whole levels are expanded on one side at a time, always on the side with the smaller frontier,
+ *  so the first meeting of the two searches gives one of the shortest routes.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class BidirectionalSolver extends AbstractMazeSolver {
+    private static final int FORWARD = 0;
+    private static final int BACKWARD = 1;
+
+    private int[][] queues;
+    private int[] heads;
+    private int[] tails;
+    private byte[][] parents;
+    private BitSet[] visited;
+    private int side;
+    private int levelEnd;
+    private int last;
+    private int[] route;
+
+    /**
+     * A public constructor for creating new Objects of type BidirectionalSolver using a Maze object as a parameter
+     * @param maze Maze object which is going to be solved
+     */
+    public BidirectionalSolver(Maze maze) {
+        super(maze);
+    }
+
+    @Override
+    protected void start() {
+        int cellCount = this.maze.getCellCount();
+        if (this.queues == null) {
+            this.queues = new int[2][];
+            this.parents = new byte[2][];
+            this.visited = new BitSet[2];
+            this.heads = new int[2];
+            this.tails = new int[2];
+        }
+        for (int searchSide = FORWARD; searchSide <= BACKWARD; searchSide++) {
+            this.queues[searchSide] = reuse(this.queues[searchSide], cellCount);
+            this.parents[searchSide] = reuse(this.parents[searchSide], cellCount);
+            this.visited[searchSide] = reuse(this.visited[searchSide], cellCount);
+        }
+        Arrays.fill(this.heads, 0);
+        Arrays.fill(this.tails, 0);
+        this.side = FORWARD;
+        this.levelEnd = 0;
+        this.route = null;
+        clearParent(this.parents[FORWARD], this.maze.getEntranceIndex());
+        clearParent(this.parents[BACKWARD], this.maze.getExitIndex());
+        this.push(FORWARD, this.maze.getEntranceIndex());
+        this.push(BACKWARD, this.maze.getExitIndex());
+        this.last = this.maze.getEntranceIndex();
+    }
+
+    private void push(int searchSide, int index) {
+        this.visit(index, this.visited[searchSide]);
+        this.queues[searchSide][this.tails[searchSide]++] = index;
+    }
+
+    @Override
+    protected boolean expand() {
+        if (this.heads[this.side] == this.levelEnd) {
+            if (this.heads[FORWARD] == this.tails[FORWARD] || this.heads[BACKWARD] == this.tails[BACKWARD]) {
+                // one of the searches has run out of cells without meeting the other
+                this.exhausted = true;
+                return true;
+            }
+            int forwardSize = this.tails[FORWARD] - this.heads[FORWARD];
+            int backwardSize = this.tails[BACKWARD] - this.heads[BACKWARD];
+            this.side = forwardSize <= backwardSize ? FORWARD : BACKWARD;
+            this.levelEnd = this.tails[this.side];
+        }
+        int other = 1 - this.side;
+        int current = this.queues[this.side][this.heads[this.side]++];
+        this.nodesExpanded++;
+        if (this.side == FORWARD) {
+            this.last = current;
+        }
+        int tailBefore = this.tails[this.side];
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            int next = this.maze.getAdjacentIndex(current, DIRECTIONS[d]);
+            if (!this.canVisit(next, this.visited[this.side])) {
+                continue;
+            }
+            if (this.visited[other].get(next)) {
+                this.meet(current, next);
+                this.finished = true;
+                return true;
+            }
+            setParent(this.parents[this.side], next, d);
+            this.push(this.side, next);
+        }
+        if (this.tails[this.side] == tailBefore) {
+            this.metrics.deadEnds++;
+        }
+        this.metrics.frontier(this.tails[FORWARD] - this.heads[FORWARD] + this.tails[BACKWARD] - this.heads[BACKWARD]);
+        return false;
+    }
+
+    private void meet(int current, int next) {
+        int forwardEnd = this.side == FORWARD ? current : next;
+        int backwardEnd = this.side == FORWARD ? next : current;
+        int[] forwardPath = this.pathTo(this.parents[FORWARD], forwardEnd);
+        int[] backwardPath = this.pathTo(this.parents[BACKWARD], backwardEnd);
+        this.route = new int[forwardPath.length + backwardPath.length];
+        System.arraycopy(forwardPath, 0, this.route, 0, forwardPath.length);
+        for (int i = 0; i < backwardPath.length; i++) {
+            this.route[forwardPath.length + i] = backwardPath[backwardPath.length - 1 - i];
+        }
+    }
+
+    @Override
+    protected int[] currentRoute() {
+        if (this.route != null) {
+            return this.route;
+        }
+        return this.pathTo(this.parents[FORWARD], this.last);
+    }
+
+    @Override
+    protected boolean isExplored(int index) {
+        return this.visited[FORWARD].get(index) || this.visited[BACKWARD].get(index);
+    }
+}
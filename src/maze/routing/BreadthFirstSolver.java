@@ -0,0 +1,83 @@
+package maze.routing;
+
+import maze.Maze;
+import java.util.BitSet;
+
+/**
+ *	Class handling a breadth-first search of the Maze.
+ *  The found route is always one of the shortest routes from the entrance to the exit.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class BreadthFirstSolver extends AbstractMazeSolver {
+    private int[] queue;
+    private int head;
+    private int tail;
+    private byte[] parents;
+    private BitSet visited;
+    private int last;
+
+    /**
+     * A public constructor for creating new Objects of type BreadthFirstSolver using a Maze object as a parameter
+     * @param maze Maze object which is going to be solved
+     */
+    public BreadthFirstSolver(Maze maze) {
+        super(maze);
+    }
+
+    @Override
+    protected void start() {
+        int cellCount = this.maze.getCellCount();
+        this.queue = reuse(this.queue, cellCount);
+        this.parents = reuse(this.parents, cellCount);
+        this.visited = reuse(this.visited, cellCount);
+        this.head = 0;
+        this.tail = 0;
+        int entrance = this.maze.getEntranceIndex();
+        clearParent(this.parents, entrance);
+        this.visit(entrance, this.visited);
+        this.queue[this.tail++] = entrance;
+        this.last = entrance;
+    }
+
+    @Override
+    protected boolean expand() {
+        if (this.head == this.tail) {
+            this.exhausted = true;
+            return true;
+        }
+        int current = this.queue[this.head++];
+        this.nodesExpanded++;
+        this.last = current;
+        int exit = this.maze.getExitIndex();
+        int tailBefore = this.tail;
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            int next = this.maze.getAdjacentIndex(current, DIRECTIONS[d]);
+            if (this.canVisit(next, this.visited)) {
+                this.visit(next, this.visited);
+                setParent(this.parents, next, d);
+                if (next == exit) {
+                    this.last = next;
+                    this.finished = true;
+                    return true;
+                }
+                this.queue[this.tail++] = next;
+            }
+        }
+        if (this.tail == tailBefore) {
+            this.metrics.deadEnds++;
+        }
+        this.metrics.frontier(this.tail - this.head);
+        return false;
+    }
+
+    @Override
+    protected int[] currentRoute() {
+        return this.pathTo(this.parents, this.last);
+    }
+
+    @Override
+    protected boolean isExplored(int index) {
+        return this.visited.get(index);
+    }
+}
@@ -0,0 +1,99 @@
+package maze.routing;
+
+import java.util.Arrays;
+
+/**
+ *	A monotone priority queue of cell indices with small integer keys, kept as a ring of buckets - one per key.
+ *  Every push has a key between the last popped key and that key plus the highest cost of a move, so only that many
+ *  buckets are ever in use and both push and pop take constant time, instead of the logarithmic time of IndexHeap.
+ *  No objects are created per queued cell.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+class BucketQueue {
+    private final int[][] buckets;
+    private final int[] sizes;
+    // the position of the oldest entry of every bucket
+    private final int[] heads;
+    // the key of the bucket pop() looks at first, which is never larger than the key of any queued cell
+    private int currentKey = 0;
+    private int size = 0;
+
+    /**
+     * Constructor for creating an empty queue
+     * @param maxCost Integer - the largest difference between the key of a pushed cell and the last popped key
+     */
+    BucketQueue(int maxCost) {
+        this.buckets = new int[maxCost + 1][16];
+        this.sizes = new int[maxCost + 1];
+        this.heads = new int[maxCost + 1];
+    }
+
+    /**
+     * Adds a cell index to the queue
+     * @param key Integer priority of the entry, between the last popped key and that key plus maxCost
+     * @param value Integer cell index
+     */
+    void push(int key, int value) {
+        int bucket = key % this.buckets.length;
+        int size = this.sizes[bucket];
+        if (size == this.buckets[bucket].length) {
+            this.buckets[bucket] = Arrays.copyOf(this.buckets[bucket], size * 2);
+        }
+        this.buckets[bucket][size] = value;
+        this.sizes[bucket] = size + 1;
+        this.size++;
+    }
+
+    /**
+     * Removes an entry with the smallest key. Entries with the same key are removed in the order they were added,
+     * so on a Maze where every move costs the same the cells are expanded in the order of a breadth-first search.
+     * @return Integer cell index of the removed entry
+     */
+    int pop() {
+        int bucket = this.currentKey % this.buckets.length;
+        while (this.heads[bucket] == this.sizes[bucket]) {
+            // an emptied bucket starts again from its beginning
+            this.heads[bucket] = 0;
+            this.sizes[bucket] = 0;
+            this.currentKey++;
+            bucket = this.currentKey % this.buckets.length;
+        }
+        this.size--;
+        return this.buckets[bucket][this.heads[bucket]++];
+    }
+
+    /**
+     * Provides us with the key of the entry removed by the last pop()
+     * @return Integer key
+     */
+    int currentKey() {
+        return this.currentKey;
+    }
+
+    /**
+     * Provides us with information whether the queue has no entries
+     * @return True if the queue is empty
+     */
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Provides us with the number of entries in the queue
+     * @return Integer size of the queue
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Removes all of the entries, keeping the allocated buckets
+     */
+    void clear() {
+        Arrays.fill(this.sizes, 0);
+        Arrays.fill(this.heads, 0);
+        this.currentKey = 0;
+        this.size = 0;
+    }
+}
@@ -0,0 +1,185 @@
+package maze.routing;
+
+import maze.Maze;
+import java.util.Arrays;
+
+/**
+ *	Handles the labelling of the connected components of a Maze - the groups of navigable cells which can be reached
+ *  from each other. Every navigable cell gets the id of its component, so whether a route from the entrance
+ *  to the exit exists is known before any search, and a Maze without one is rejected after a single pass.
+ *  The cells are labelled row by row, joining every cell with its west and south neighbours in a union-find
+ *  of provisional labels, which are then numbered 0, 1, 2... in the order of the first cell of every component.
+ *  Apart from the int per cell of the provisional labels, the memory taken is in proportion to their number.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class ConnectedComponents {
+    private final Maze maze;
+    // the provisional label of every cell, 0 for the walls
+    private final int[] labels;
+    // the component of every provisional label, -1 for the walls
+    private final int[] ids;
+    private final int[] sizes;
+    private final double labelMillis;
+    // the revision of the Maze the cells were labelled in
+    private final int revision;
+
+    private ConnectedComponents(Maze maze, int[] labels, int[] ids, int[] sizes, double labelMillis) {
+        this.maze = maze;
+        this.labels = labels;
+        this.ids = ids;
+        this.sizes = sizes;
+        this.labelMillis = labelMillis;
+        this.revision = maze.getRevision();
+    }
+
+    /**
+     * Labels the components of a Maze in time linear in the number of its cells. The Maze itself is not changed.
+     * @param maze Maze object whose cells are going to be labelled
+     * @return Returns the newly labelled ConnectedComponents
+     */
+    public static ConnectedComponents label(Maze maze) {
+        long start = System.nanoTime();
+        int width = maze.getWidth();
+        int height = maze.getHeight();
+        int[] labels = new int[maze.getCellCount()];
+        // provisional labels start at 1, so that 0 marks the walls - roots[label] leads towards the root of its set
+        int[] roots = new int[64];
+        int[] counts = new int[64];
+        int labelCount = 0;
+        for (int y = 0, index = 0; y < height; y++) {
+            for (int x = 0; x < width; x++, index++) {
+                if (!maze.isNavigable(index)) {
+                    continue;
+                }
+                int west = x > 0 ? labels[index - 1] : 0;
+                int south = y > 0 ? labels[index - width] : 0;
+                if (west == 0 && south == 0) {
+                    if (++labelCount == roots.length) {
+                        roots = Arrays.copyOf(roots, roots.length * 2);
+                        counts = Arrays.copyOf(counts, roots.length);
+                    }
+                    roots[labelCount] = labelCount;
+                    labels[index] = labelCount;
+                } else if (west == 0 || west == south) {
+                    labels[index] = south;
+                } else if (south == 0 || labels[index - width - 1] != 0) {
+                    // with the south-west cell open, the west and south cells were joined through it already
+                    labels[index] = west;
+                } else {
+                    labels[index] = union(roots, west, south);
+                }
+                counts[labels[index]]++;
+            }
+        }
+
+        // a set is always linked under its smaller root, so every root is smaller than the labels below it
+        // and one pass in increasing order points every label straight at its root.
+        // The cells keep their provisional labels, so only the labels are numbered, not every cell again.
+        int[] ids = new int[labelCount + 1];
+        ids[0] = -1;
+        int componentCount = 0;
+        for (int label = 1; label <= labelCount; label++) {
+            roots[label] = roots[roots[label]];
+            ids[label] = roots[label] == label ? componentCount++ : ids[roots[label]];
+        }
+        int[] sizes = new int[componentCount];
+        for (int label = 1; label <= labelCount; label++) {
+            sizes[ids[label]] += counts[label];
+        }
+        return new ConnectedComponents(maze, labels, ids, sizes, (System.nanoTime() - start) / 1e6);
+    }
+
+    /**
+     * Joins the sets of two provisional labels
+     * @return Integer root of the joined set, the smaller one of the two roots
+     */
+    private static int union(int[] roots, int first, int second) {
+        first = find(roots, first);
+        second = find(roots, second);
+        if (first < second) {
+            roots[second] = first;
+            return first;
+        }
+        roots[first] = second;
+        return second;
+    }
+
+    private static int find(int[] roots, int label) {
+        while (roots[label] != label) {
+            // path halving - every visited label is pointed at its grandparent
+            roots[label] = roots[roots[label]];
+            label = roots[label];
+        }
+        return label;
+    }
+
+    /**
+     * Provides us with the Maze whose cells were labelled
+     * @return Maze object
+     */
+    public Maze getMaze() {
+        return this.maze;
+    }
+
+    /**
+     * Provides us with information whether the labels still match their Maze
+     * @return True if the Maze was not edited with Maze.setWall() since its cells were labelled
+     */
+    public boolean isCurrent() {
+        return this.revision == this.maze.getRevision();
+    }
+
+    /**
+     * Provides us with the number of components - separate groups of navigable cells
+     * @return Integer count of the components
+     */
+    public int getComponentCount() {
+        return this.sizes.length;
+    }
+
+    /**
+     * Provides us with the component of a cell
+     * @param index Integer row-major index of the cell
+     * @return Integer id of the component, from 0 to getComponentCount() - 1, or -1 if the cell is a wall
+     */
+    public int getComponent(int index) {
+        return this.ids[this.labels[index]];
+    }
+
+    /**
+     * Provides us with the number of cells in a component
+     * @param component Integer id of the component
+     * @return Integer count of the navigable cells of the component
+     */
+    public int getComponentSize(int component) {
+        return this.sizes[component];
+    }
+
+    /**
+     * Provides us with information whether there is a route between two cells
+     * @param first Integer row-major index of a cell
+     * @param second Integer row-major index of another cell
+     * @return True if both cells are navigable and in the same component
+     */
+    public boolean areConnected(int first, int second) {
+        int component = this.getComponent(first);
+        return component != -1 && component == this.getComponent(second);
+    }
+
+    /**
+     * Provides us with information whether there is a route from the entrance to the exit
+     * @return True if the entrance and the exit are in the same component
+     */
+    public boolean isExitReachable() {
+        return this.areConnected(this.maze.getEntranceIndex(), this.maze.getExitIndex());
+    }
+
+    /**
+     * Provides us with the time the labelling took
+     * @return double number of milliseconds
+     */
+    public double getLabelMillis() {
+        return this.labelMillis;
+    }
+}
@@ -0,0 +1,262 @@
+package maze.routing;
+
+import maze.Maze;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ *	Handles the compressed junction graph of a Maze.
+ *  The nodes are the entrance, the exit and every navigable cell which does not have exactly two navigable neighbours -
+ *  junctions and dead ends. The edges are the corridor runs between them, weighted by their length in moves.
+ *  Only the first move of every edge is kept, the cells of a corridor are found again by following it,
+ *  so apart from a bitmap of the node cells the graph takes memory in proportion to its nodes and edges.
+ *  The edges are stored in compressed sparse row form - the edges of node n are edgeStart[n] to edgeStart[n + 1] - 1.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class CorridorGraph {
+    private static final Maze.Direction[] DIRECTIONS = AbstractMazeSolver.DIRECTIONS;
+    // position in DIRECTIONS of the opposite of every direction
+    private static final int[] OPPOSITE = {2, 3, 0, 1};
+
+    private final Maze maze;
+    private final int width;
+    private final int cellCount;
+    private final BitSet nodeCells;
+    // cell index of every node, in increasing order, so the node of a cell is found by a binary search
+    private final int[] nodes;
+    private final int[] edgeStart;
+    private final int[] edgeTarget;
+    private final int[] edgeLength;
+    private final byte[] edgeDirection;
+    // the revision of the Maze the graph was built from
+    private final int revision;
+
+    private CorridorGraph(Maze maze, BitSet nodeCells, int[] nodes, int[] edgeStart, int[] edgeTarget, int[] edgeLength, byte[] edgeDirection) {
+        this.maze = maze;
+        this.width = maze.getWidth();
+        this.cellCount = maze.getCellCount();
+        this.nodeCells = nodeCells;
+        this.nodes = nodes;
+        this.edgeStart = edgeStart;
+        this.edgeTarget = edgeTarget;
+        this.edgeLength = edgeLength;
+        this.edgeDirection = edgeDirection;
+        this.revision = maze.getRevision();
+    }
+
+    /**
+     * Builds the graph of a Maze in time linear in the number of its cells - every corridor cell is followed
+     * once from each of its ends. Corridors which loop back to the node they start from are left out,
+     * as they never shorten a route.
+     * @param maze Maze object which is going to be compressed
+     * @return Returns the newly built CorridorGraph
+     */
+    public static CorridorGraph build(Maze maze) {
+        int cellCount = maze.getCellCount();
+        BitSet nodeCells = new BitSet(cellCount);
+        int nodeCount = 0;
+        int width = maze.getWidth();
+        int height = maze.getHeight();
+        // the rows and columns are walked directly, so the bounds are known without a division per neighbour
+        for (int y = 0, index = 0; y < height; y++) {
+            for (int x = 0; x < width; x++, index++) {
+                if (!maze.isNavigable(index)) {
+                    continue;
+                }
+                int degree = 0;
+                if (y < height - 1 && maze.isNavigable(index + width)) {
+                    degree++;
+                }
+                if (x < width - 1 && maze.isNavigable(index + 1)) {
+                    degree++;
+                }
+                if (y > 0 && maze.isNavigable(index - width)) {
+                    degree++;
+                }
+                if (x > 0 && maze.isNavigable(index - 1)) {
+                    degree++;
+                }
+                if (degree != 2) {
+                    nodeCells.set(index);
+                    nodeCount++;
+                }
+            }
+        }
+        for (int end : new int[] {maze.getEntranceIndex(), maze.getExitIndex()}) {
+            if (!nodeCells.get(end)) {
+                nodeCells.set(end);
+                nodeCount++;
+            }
+        }
+        int[] nodes = new int[nodeCount];
+        for (int index = nodeCells.nextSetBit(0), n = 0; index >= 0; index = nodeCells.nextSetBit(index + 1)) {
+            nodes[n++] = index;
+        }
+
+        int[] edgeStart = new int[nodeCount + 1];
+        int[] edgeTarget = new int[Math.max(16, nodeCount * 2)];
+        int[] edgeLength = new int[edgeTarget.length];
+        byte[] edgeDirection = new byte[edgeTarget.length];
+        int edgeCount = 0;
+        CorridorGraph graph = new CorridorGraph(maze, nodeCells, nodes, edgeStart, edgeTarget, edgeLength, edgeDirection);
+        for (int n = 0; n < nodeCount; n++) {
+            edgeStart[n] = edgeCount;
+            for (int d = 0; d < DIRECTIONS.length; d++) {
+                int next = graph.neighbour(nodes[n], d);
+                if (next == -1 || !maze.isNavigable(next)) {
+                    continue;
+                }
+                int length = 1;
+                int direction = d;
+                while (!nodeCells.get(next)) {
+                    direction = graph.continuation(next, direction);
+                    next = graph.neighbour(next, direction);
+                    length++;
+                }
+                if (next == nodes[n]) {
+                    continue;
+                }
+                if (edgeCount == edgeTarget.length) {
+                    edgeTarget = Arrays.copyOf(edgeTarget, edgeCount * 2);
+                    edgeLength = Arrays.copyOf(edgeLength, edgeCount * 2);
+                    edgeDirection = Arrays.copyOf(edgeDirection, edgeCount * 2);
+                }
+                edgeTarget[edgeCount] = graph.nodeOf(next);
+                edgeLength[edgeCount] = length;
+                edgeDirection[edgeCount] = (byte) d;
+                edgeCount++;
+            }
+        }
+        edgeStart[nodeCount] = edgeCount;
+        return new CorridorGraph(maze, nodeCells, nodes, edgeStart,
+                Arrays.copyOf(edgeTarget, edgeCount), Arrays.copyOf(edgeLength, edgeCount), Arrays.copyOf(edgeDirection, edgeCount));
+    }
+
+    /**
+     * Provides us with the neighbour of a cell. Equivalent to Maze.getAdjacentIndex(), but without going through
+     * the Direction, as building the graph asks for the neighbours of every cell.
+     * @param index Integer index of the cell
+     * @param direction Integer position in DIRECTIONS of the move
+     * @return Integer index of the neighbour, or -1 if the move leaves the Maze
+     */
+    private int neighbour(int index, int direction) {
+        switch (direction) {
+            case 0:
+                return index + this.width < this.cellCount ? index + this.width : -1;
+            case 1:
+                return (index + 1) % this.width != 0 ? index + 1 : -1;
+            case 2:
+                return index >= this.width ? index - this.width : -1;
+            default:
+                return index % this.width != 0 ? index - 1 : -1;
+        }
+    }
+
+    /**
+     * Provides us with the way on along a corridor
+     * @param index Integer index of a corridor cell, which has exactly two navigable neighbours
+     * @param arrivedBy Integer position in DIRECTIONS of the move into the cell
+     * @return Integer position in DIRECTIONS of the move out of the cell, which does not go back
+     */
+    private int continuation(int index, int arrivedBy) {
+        int back = OPPOSITE[arrivedBy];
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            if (d == back) {
+                continue;
+            }
+            int next = this.neighbour(index, d);
+            if (next != -1 && this.maze.isNavigable(next)) {
+                return d;
+            }
+        }
+        throw new IllegalStateException("Cell " + index + " is not part of a corridor");
+    }
+
+    /**
+     * Provides us with the Maze the graph was built from
+     * @return Maze object of the graph
+     */
+    public Maze getMaze() {
+        return this.maze;
+    }
+
+    /**
+     * Provides us with information whether the graph still matches its Maze
+     * @return True if the Maze was not edited with Maze.setWall() since the graph was built
+     */
+    public boolean isCurrent() {
+        return this.revision == this.maze.getRevision();
+    }
+
+    /**
+     * Provides us with the number of nodes - the entrance, the exit, the junctions and the dead ends
+     * @return Integer count of the nodes
+     */
+    public int getNodeCount() {
+        return this.nodes.length;
+    }
+
+    /**
+     * Provides us with the number of edges. Every corridor is counted once from each of its ends.
+     * @return Integer count of the edges
+     */
+    public int getEdgeCount() {
+        return this.edgeTarget.length;
+    }
+
+    /**
+     * Provides us with the node at a given cell
+     * @param index Integer index of the cell
+     * @return Integer number of the node, or -1 if the cell is not a node
+     */
+    public int nodeOf(int index) {
+        if (index < 0 || !this.nodeCells.get(index)) {
+            return -1;
+        }
+        return Arrays.binarySearch(this.nodes, index);
+    }
+
+    /**
+     * Provides us with the cell of a given node
+     * @param node Integer number of the node
+     * @return Integer index of the cell
+     */
+    public int cellOf(int node) {
+        return this.nodes[node];
+    }
+
+    int firstEdge(int node) {
+        return this.edgeStart[node];
+    }
+
+    int lastEdge(int node) {
+        return this.edgeStart[node + 1];
+    }
+
+    int target(int edge) {
+        return this.edgeTarget[edge];
+    }
+
+    int length(int edge) {
+        return this.edgeLength[edge];
+    }
+
+    /**
+     * Writes the cells of an edge, after its first node, into an array
+     * @param edge Integer number of the edge
+     * @param from Integer number of the node the edge starts from
+     * @param cells int array with room for length(edge) cells after the position
+     * @param position Integer position in the array of the first written cell
+     */
+    void expandEdge(int edge, int from, int[] cells, int position) {
+        int direction = this.edgeDirection[edge];
+        int index = this.neighbour(this.nodes[from], direction);
+        cells[position++] = index;
+        while (!this.nodeCells.get(index)) {
+            direction = this.continuation(index, direction);
+            index = this.neighbour(index, direction);
+            cells[position++] = index;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package maze.routing;
+
+import maze.Maze;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ *	Class handling Dijkstra's algorithm on the CorridorGraph of a Maze.
+ *  A step expands one junction, dead end, entrance or exit and moves along whole corridors at once,
+ *  so a Maze of long corridors is solved in far fewer steps than cells. The route is one of the shortest
+ *  and is expanded back into cells by following the corridors of its edges.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class CorridorGraphSolver extends AbstractMazeSolver {
+    private CorridorGraph graph;
+    private IndexHeap open;
+    private long[] distances;
+    private int[] parentEdges;
+    private int[] parentNodes;
+    private BitSet closed;
+    private BitSet reached;
+    private int exitNode;
+    private int last;
+
+    /**
+     * A public constructor for creating new Objects of type CorridorGraphSolver.
+     * The graph is built by the first step.
+     * @param maze Maze object which is going to be solved
+     */
+    public CorridorGraphSolver(Maze maze) {
+        super(maze);
+    }
+
+    /**
+     * A public constructor for creating new Objects of type CorridorGraphSolver from a graph which is already built,
+     * so that several searches of the same Maze share the cost of building it.
+     * If the Maze was edited since the graph was built, the search builds it again instead of routing through new walls.
+     * @param graph CorridorGraph of the Maze which is going to be solved
+     */
+    public CorridorGraphSolver(CorridorGraph graph) {
+        super(graph.getMaze());
+        this.graph = graph;
+    }
+
+    /**
+     * Provides us with the graph the search runs on
+     * @return CorridorGraph of the Maze, or null if the first step has not built it yet. A graph of another Maze,
+     * or one built before the Maze was edited, is replaced by the first step after a reset.
+     */
+    public CorridorGraph getGraph() {
+        return this.graph;
+    }
+
+    @Override
+    protected void start() {
+        // the graph is kept across resets as long as it is of the same Maze and the Maze was not edited since
+        if (this.graph != null && (this.graph.getMaze() != this.maze || !this.graph.isCurrent())) {
+            this.graph = null;
+        }
+        if (this.graph == null) {
+            long start = System.nanoTime();
+            this.graph = CorridorGraph.build(this.maze);
+            this.metrics.preprocessNanos += System.nanoTime() - start;
+        }
+        int nodeCount = this.graph.getNodeCount();
+        if (this.open == null) {
+            this.open = new IndexHeap(64);
+        }
+        this.open.clear();
+        if (this.distances == null || this.distances.length < nodeCount) {
+            this.distances = new long[nodeCount];
+        }
+        Arrays.fill(this.distances, 0, nodeCount, Long.MAX_VALUE);
+        this.parentEdges = reuse(this.parentEdges, nodeCount);
+        this.parentNodes = reuse(this.parentNodes, nodeCount);
+        Arrays.fill(this.parentNodes, 0, nodeCount, -1);
+        this.closed = reuse(this.closed, nodeCount);
+        this.reached = reuse(this.reached, nodeCount);
+        this.exitNode = this.graph.nodeOf(this.maze.getExitIndex());
+        int entranceNode = this.graph.nodeOf(this.maze.getEntranceIndex());
+        this.distances[entranceNode] = 0;
+        this.reach(entranceNode);
+        this.open.push(0, entranceNode);
+        this.last = entranceNode;
+    }
+
+    @Override
+    protected boolean expand() {
+        int current = -1;
+        while (!this.open.isEmpty()) {
+            int candidate = this.open.pop();
+            if (!this.closed.get(candidate)) {
+                current = candidate;
+                break;
+            }
+        }
+        if (current == -1) {
+            this.exhausted = true;
+            return true;
+        }
+        this.closed.set(current);
+        this.nodesExpanded++;
+        this.last = current;
+        if (current == this.exitNode) {
+            this.finished = true;
+            return true;
+        }
+        boolean reachedNew = false;
+        for (int edge = this.graph.firstEdge(current); edge < this.graph.lastEdge(current); edge++) {
+            int next = this.graph.target(edge);
+            long distance = this.distances[current] + this.graph.length(edge);
+            if (this.closed.get(next) || distance >= this.distances[next]) {
+                continue;
+            }
+            this.distances[next] = distance;
+            this.parentEdges[next] = edge;
+            this.parentNodes[next] = current;
+            this.reach(next);
+            this.open.push(distance, next);
+            reachedNew = true;
+        }
+        if (!reachedNew) {
+            this.metrics.deadEnds++;
+        }
+        this.metrics.frontier(this.open.size());
+        return false;
+    }
+
+    private void reach(int node) {
+        if (!this.reached.get(node)) {
+            this.reached.set(node);
+            this.notifyExplored(this.graph.cellOf(node));
+        }
+    }
+
+    /**
+     * Rebuilds the cells of the route to the most recently expanded node, following the corridor of every edge on it
+     * @return Array of cell indices ordered from the entrance onwards
+     */
+    @Override
+    protected int[] currentRoute() {
+        int length = 1;
+        for (int node = this.last; this.parentNodes[node] != -1; node = this.parentNodes[node]) {
+            length += this.graph.length(this.parentEdges[node]);
+        }
+        int[] route = new int[length];
+        int end = length;
+        for (int node = this.last; this.parentNodes[node] != -1; node = this.parentNodes[node]) {
+            int edge = this.parentEdges[node];
+            end -= this.graph.length(edge);
+            this.graph.expandEdge(edge, this.parentNodes[node], route, end);
+        }
+        route[0] = this.maze.getEntranceIndex();
+        return route;
+    }
+
+    /**
+     * Only the nodes are explored - the corridors between them are skipped by the search.
+     * A corridor cell which is not on the route is shown as unexplored.
+     * @param index Integer index of the cell
+     * @return True if the cell is a node which was reached
+     */
+    @Override
+    protected boolean isExplored(int index) {
+        int node = this.graph.nodeOf(index);
+        return node != -1 && this.reached.get(node);
+    }
+}
@@ -0,0 +1,113 @@
+package maze.routing;
+
+import maze.Maze;
+import maze.Tile;
+import java.util.BitSet;
+
+/**
+ *	Class handling a Dijkstra search of the Maze, which takes the cost of entering every cell into account.
+ *  The found route is always one of the cheapest routes from the entrance to the exit - on a Maze without weighted
+ *  corridors every cell costs 1, so it is one of the shortest routes, like the one of a breadth-first search.
+ *  The costs are small integers, so the cells waiting to be expanded are kept in a BucketQueue instead of a heap.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class DijkstraSolver extends AbstractMazeSolver {
+    private BucketQueue open;
+    // the cheapest known cost of reaching every visited cell - the entries of the other cells are left over
+    private int[] distances;
+    private byte[] parents;
+    private BitSet visited;
+    private int last;
+
+    /**
+     * A public constructor for creating new Objects of type DijkstraSolver using a Maze object as a parameter
+     * @param maze Maze object which is going to be solved
+     */
+    public DijkstraSolver(Maze maze) {
+        super(maze);
+    }
+
+    @Override
+    protected void start() {
+        int cellCount = this.maze.getCellCount();
+        if (this.open == null) {
+            this.open = new BucketQueue(Tile.MAX_COST);
+        }
+        this.open.clear();
+        this.distances = reuse(this.distances, cellCount);
+        this.parents = reuse(this.parents, cellCount);
+        this.visited = reuse(this.visited, cellCount);
+        int entrance = this.maze.getEntranceIndex();
+        this.distances[entrance] = 0;
+        clearParent(this.parents, entrance);
+        this.visit(entrance, this.visited);
+        this.open.push(0, entrance);
+        this.last = entrance;
+    }
+
+    @Override
+    protected boolean expand() {
+        int current = -1;
+        while (!this.open.isEmpty()) {
+            int candidate = this.open.pop();
+            // a cell is queued again only when a cheaper way to it is found, so an entry with a higher key is stale
+            if (this.open.currentKey() == this.distances[candidate]) {
+                current = candidate;
+                break;
+            }
+        }
+        if (current == -1) {
+            this.exhausted = true;
+            return true;
+        }
+        this.nodesExpanded++;
+        this.last = current;
+        if (current == this.maze.getExitIndex()) {
+            // a cheaper route to the exit would have been expanded before it
+            this.finished = true;
+            return true;
+        }
+        int distance = this.distances[current];
+        boolean reachedNew = false;
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            int next = this.maze.getAdjacentIndex(current, DIRECTIONS[d]);
+            if (next == -1 || !this.maze.isNavigable(next)) {
+                continue;
+            }
+            // expanded cells are never improved, as they cost no more than the current one
+            int cost = distance + this.maze.getCost(next);
+            if (this.visited.get(next) && cost >= this.distances[next]) {
+                continue;
+            }
+            this.distances[next] = cost;
+            this.visit(next, this.visited);
+            setParent(this.parents, next, d);
+            this.open.push(cost, next);
+            reachedNew = true;
+        }
+        if (!reachedNew) {
+            this.metrics.deadEnds++;
+        }
+        this.metrics.frontier(this.open.size());
+        return false;
+    }
+
+    /**
+     * Provides us with the cost of the found route - the sum of the costs of its cells, the entrance excluded
+     * @return Integer cost of the route, or -1 if the exit has not been reached
+     */
+    public int getRouteCost() {
+        return this.finished ? this.distances[this.maze.getExitIndex()] : -1;
+    }
+
+    @Override
+    protected int[] currentRoute() {
+        return this.pathTo(this.parents, this.last);
+    }
+
+    @Override
+    protected boolean isExplored(int index) {
+        return this.visited.get(index);
+    }
+}
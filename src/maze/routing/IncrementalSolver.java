@@ -0,0 +1,292 @@
+package maze.routing;
+
+import maze.Maze;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ *	Class handling a Lifelong Planning A* search of the Maze, which repairs its route after the Maze is edited
+ *  instead of searching again from scratch.
+ *  Every cell has the cost of the cheapest route to it found so far, and a look-ahead cost - its own cost added to
+ *  the one of its cheapest neighbour. Only the cells where the two differ are queued, ordered like in A* by the
+ *  Manhattan distance to the exit. When cells are turned into walls or corridors, only they and their neighbours
+ *  become inconsistent, so the repair expands the cells whose cost the edit changed and which may lie on a better
+ *  route - their number depends on the size of the change, not of the Maze.
+ *  The found route is always one of the cheapest, taking the cost of weighted corridors into account like DIJKSTRA.
+ *  Its state takes 16 bytes per cell - the two costs and the key the cell is queued with.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class IncrementalSolver extends AbstractMazeSolver {
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final long NOT_QUEUED = -1;
+
+    private IndexHeap open;
+    private int[] costs;
+    private int[] lookahead;
+    // the key every queued cell is queued with, so that the older entries of a cell in the heap are skipped
+    private long[] queuedKeys;
+    // the cells with a known route to them
+    private BitSet explored;
+    private boolean initialised = false;
+    private int entrance;
+    private int exit;
+    private int exitX;
+    private int exitY;
+    private int last;
+
+    /**
+     * A public constructor for creating new Objects of type IncrementalSolver using a Maze object as a parameter
+     * @param maze Maze object which is going to be solved
+     */
+    public IncrementalSolver(Maze maze) {
+        super(maze);
+    }
+
+    @Override
+    public void reset(Maze maze) {
+        super.reset(maze);
+        this.initialised = false;
+    }
+
+    /**
+     * Edits the Maze with Maze.setWall() and tells the search about the edit.
+     * The route is repaired by the following step() or solve() calls.
+     * @param index Integer index of the cell
+     * @param wall Boolean - True to make the cell a wall, False to make it a corridor
+     * @return True if the cell was changed, False if it already was of the requested kind
+     * @throws IllegalArgumentException Indicates that the cell is the entrance or the exit, which cannot be edited
+     * @throws IllegalStateException Indicates that the Maze is kept in a chunk file, which is read-only
+     */
+    public boolean setWall(int index, boolean wall) {
+        boolean changed = this.maze.setWall(index, wall);
+        if (changed) {
+            this.cellChanged(index);
+        }
+        return changed;
+    }
+
+    /**
+     * Tells the search that a cell of its Maze was edited, so that it repairs its route.
+     * Has to be called for every cell changed with Maze.setWall() since the search started - the search would
+     * otherwise go on from costs which no longer hold. The route is repaired by the following step() or solve()
+     * calls, which carry on a finished search as well.
+     * @param index Integer index of the edited cell
+     */
+    public void cellChanged(int index) {
+        if (!this.initialised) {
+            // the first step reads the cells as they are
+            return;
+        }
+        this.update(index);
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            int next = this.maze.getAdjacentIndex(index, DIRECTIONS[d]);
+            if (next != -1) {
+                this.update(next);
+            }
+        }
+        this.finished = false;
+        this.exhausted = false;
+    }
+
+    /**
+     * Provides us with the cost of the found route - the sum of the costs of its cells, the entrance excluded
+     * @return Integer cost of the route, or -1 if the exit has not been reached
+     */
+    public int getRouteCost() {
+        return this.finished ? this.costs[this.exit] : -1;
+    }
+
+    @Override
+    protected void start() {
+        int cellCount = this.maze.getCellCount();
+        if (this.open == null) {
+            this.open = new IndexHeap(1024);
+        }
+        this.open.clear();
+        this.costs = reuse(this.costs, cellCount);
+        this.lookahead = reuse(this.lookahead, cellCount);
+        if (this.queuedKeys == null || this.queuedKeys.length < cellCount) {
+            this.queuedKeys = new long[cellCount];
+        }
+        Arrays.fill(this.costs, 0, cellCount, INFINITY);
+        Arrays.fill(this.lookahead, 0, cellCount, INFINITY);
+        Arrays.fill(this.queuedKeys, 0, cellCount, NOT_QUEUED);
+        this.explored = reuse(this.explored, cellCount);
+        this.entrance = this.maze.getEntranceIndex();
+        this.exit = this.maze.getExitIndex();
+        this.exitX = this.exit % this.maze.getWidth();
+        this.exitY = this.exit / this.maze.getWidth();
+        this.lookahead[this.entrance] = 0;
+        this.queue(this.entrance);
+        this.last = this.entrance;
+        this.initialised = true;
+    }
+
+    @Override
+    protected boolean expand() {
+        long exitKey = this.key(this.exit);
+        if (this.topKey() >= exitKey && this.costs[this.exit] == this.lookahead[this.exit]) {
+            // no queued cell can lead to a cheaper route to the exit
+            if (this.costs[this.exit] == INFINITY) {
+                this.exhausted = true;
+            } else {
+                this.last = this.exit;
+                this.finished = true;
+            }
+            return true;
+        }
+        int current = this.open.pop();
+        this.queuedKeys[current] = NOT_QUEUED;
+        this.nodesExpanded++;
+        this.last = current;
+        if (this.costs[current] > this.lookahead[current]) {
+            // a cheaper route to the cell was found
+            this.setCost(current, this.lookahead[current]);
+        } else {
+            // the route to the cell got more expensive or was cut, so it is found again from its neighbours
+            this.setCost(current, INFINITY);
+            this.update(current);
+        }
+        boolean changedNeighbour = false;
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            int next = this.maze.getAdjacentIndex(current, DIRECTIONS[d]);
+            if (next != -1 && this.update(next)) {
+                changedNeighbour = true;
+            }
+        }
+        if (!changedNeighbour) {
+            this.metrics.deadEnds++;
+        }
+        this.metrics.frontier(this.open.size());
+        return false;
+    }
+
+    /**
+     * Recomputes the look-ahead cost of a cell and queues the cell if it differs from its cost
+     * @param index Integer index of the cell
+     * @return True if the cell is queued
+     */
+    private boolean update(int index) {
+        if (index != this.entrance) {
+            this.lookahead[index] = this.bestLookahead(index);
+        }
+        if (this.costs[index] == this.lookahead[index]) {
+            this.queuedKeys[index] = NOT_QUEUED;
+            return false;
+        }
+        this.queue(index);
+        return true;
+    }
+
+    /**
+     * Provides us with the cost of reaching a cell through the cheapest of its navigable neighbours
+     * @param index Integer index of the cell
+     * @return Integer cost, INFINITY if the cell is a wall or none of its neighbours has a known route
+     */
+    private int bestLookahead(int index) {
+        if (!this.maze.isNavigable(index)) {
+            return INFINITY;
+        }
+        int best = INFINITY;
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            int next = this.maze.getAdjacentIndex(index, DIRECTIONS[d]);
+            if (next != -1 && this.costs[next] < best && this.maze.isNavigable(next)) {
+                best = this.costs[next];
+            }
+        }
+        return best == INFINITY ? INFINITY : best + this.maze.getCost(index);
+    }
+
+    private void queue(int index) {
+        long key = this.key(index);
+        if (this.queuedKeys[index] != key) {
+            this.queuedKeys[index] = key;
+            this.open.push(key, index);
+        }
+    }
+
+    /**
+     * Provides us with the smallest key of the queued cells, dropping the outdated heap entries on the way
+     * @return long key, or Long.MAX_VALUE if no cell is queued
+     */
+    private long topKey() {
+        while (!this.open.isEmpty()) {
+            long key = this.open.peekKey();
+            if (this.queuedKeys[this.open.peek()] == key) {
+                return key;
+            }
+            this.open.pop();
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Provides us with the key of a cell - the estimated cost of a route through it, ties broken towards
+     * the cell with the cheaper route to it
+     * @param index Integer index of the cell
+     * @return long key, Long.MAX_VALUE if the cell has no known route
+     */
+    private long key(int index) {
+        int cost = Math.min(this.costs[index], this.lookahead[index]);
+        if (cost == INFINITY) {
+            return Long.MAX_VALUE;
+        }
+        int width = this.maze.getWidth();
+        int heuristic = Math.abs(index % width - this.exitX) + Math.abs(index / width - this.exitY);
+        return ((long) (cost + heuristic) << 32) | cost;
+    }
+
+    private void setCost(int index, int cost) {
+        this.costs[index] = cost;
+        if (cost != INFINITY) {
+            this.visit(index, this.explored);
+        } else if (this.explored.get(index)) {
+            this.explored.clear(index);
+            this.notifyUnexplored(index);
+        }
+    }
+
+    /**
+     * Provides us with the route to the most recently expanded cell, found by moving from it to the cheapest
+     * neighbour until the entrance. Once the search is finished, that is a cheapest route to the exit.
+     * @return Array of cell indices ordered from the entrance onwards
+     */
+    @Override
+    protected int[] currentRoute() {
+        int[] route = new int[16];
+        int length = 0;
+        int current = this.last;
+        while (true) {
+            if (length == route.length) {
+                route = Arrays.copyOf(route, length * 2);
+            }
+            route[length++] = current;
+            if (current == this.entrance) {
+                break;
+            }
+            int previous = -1;
+            for (int d = 0; d < DIRECTIONS.length; d++) {
+                int next = this.maze.getAdjacentIndex(current, DIRECTIONS[d]);
+                if (next != -1 && this.maze.isNavigable(next) && (previous == -1 || this.costs[next] < this.costs[previous])) {
+                    previous = next;
+                }
+            }
+            // every move goes to a strictly cheaper cell, so a route through cells whose costs are outdated still ends
+            if (previous == -1 || this.costs[previous] >= this.costs[current]) {
+                break;
+            }
+            current = previous;
+        }
+        int[] ordered = new int[length];
+        for (int i = 0; i < length; i++) {
+            ordered[i] = route[length - 1 - i];
+        }
+        return ordered;
+    }
+
+    @Override
+    protected boolean isExplored(int index) {
+        return this.explored.get(index);
+    }
+}
@@ -0,0 +1,117 @@
+package maze.routing;
+
+import java.util.Arrays;
+
+/**
+ *	A binary min-heap of cell indices ordered by primitive long keys.
+ *  Used instead of a PriorityQueue, so that no objects are created per queued cell.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+class IndexHeap {
+    private long[] keys;
+    private int[] values;
+    private int size = 0;
+
+    /**
+     * Constructor for creating an empty heap
+     * @param capacity Integer - initial number of entries the heap can hold before growing
+     */
+    IndexHeap(int capacity) {
+        this.keys = new long[Math.max(capacity, 16)];
+        this.values = new int[this.keys.length];
+    }
+
+    /**
+     * Adds a cell index to the heap
+     * @param key long priority of the entry, smaller keys are polled first
+     * @param value Integer cell index
+     */
+    void push(long key, int value) {
+        if (this.size == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.size * 2);
+            this.values = Arrays.copyOf(this.values, this.size * 2);
+        }
+        int i = this.size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (this.keys[parent] <= key) {
+                break;
+            }
+            this.keys[i] = this.keys[parent];
+            this.values[i] = this.values[parent];
+            i = parent;
+        }
+        this.keys[i] = key;
+        this.values[i] = value;
+    }
+
+    /**
+     * Provides us with the smallest key in the heap, without removing it
+     * @return long key of the top entry
+     */
+    long peekKey() {
+        return this.keys[0];
+    }
+
+    /**
+     * Provides us with the cell index of the entry with the smallest key, without removing it
+     * @return Integer cell index of the top entry
+     */
+    int peek() {
+        return this.values[0];
+    }
+
+    /**
+     * Removes the entry with the smallest key
+     * @return Integer cell index of the removed entry
+     */
+    int pop() {
+        int top = this.values[0];
+        int last = --this.size;
+        long key = this.keys[last];
+        int value = this.values[last];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= last) {
+                break;
+            }
+            if (child + 1 < last && this.keys[child + 1] < this.keys[child]) {
+                child++;
+            }
+            if (key <= this.keys[child]) {
+                break;
+            }
+            this.keys[i] = this.keys[child];
+            this.values[i] = this.values[child];
+            i = child;
+        }
+        this.keys[i] = key;
+        this.values[i] = value;
+        return top;
+    }
+
+    /**
+     * Provides us with information whether the heap has no entries
+     * @return True if the heap is empty
+     */
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Provides us with the number of entries in the heap
+     * @return Integer size of the heap
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Removes all of the entries, keeping the allocated arrays
+     */
+    void clear() {
+        this.size = 0;
+    }
+}
@@ -0,0 +1,204 @@
+package maze.routing;
+
+import maze.Maze;
+import java.util.BitSet;
+
+/**
+ *	Class handling a Jump Point Search of the Maze - an A* search which, instead of queueing every neighbour of a cell,
+ *  jumps along straight lines and only queues the cells where a shortest route may have to turn.
+ *  On open mazes with large corridor regions most of the cells are only scanned, never queued nor expanded.
+ *  The found route is always one of the shortest routes from the entrance to the exit, and it is given cell by cell.
+ *  Like the other strategies except DIJKSTRA, it treats every corridor as costing 1.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class JumpPointSolver extends AbstractMazeSolver {
+    // moves in the order of DIRECTIONS - NORTH, EAST, SOUTH, WEST
+    private static final int[] STEP_X = {0, 1, 0, -1};
+    private static final int[] STEP_Y = {1, 0, -1, 0};
+
+    private IndexHeap open;
+    // the length of the shortest known route to every visited jump point - the entries of the other cells are left over
+    private int[] distances;
+    // the jump point every visited jump point was reached from, which is on the same row or column
+    private int[] parents;
+    private BitSet visited;
+    private BitSet closed;
+    private int width;
+    private int height;
+    private int exit;
+    private int exitX;
+    private int exitY;
+    private int last;
+
+    /**
+     * A public constructor for creating new Objects of type JumpPointSolver using a Maze object as a parameter
+     * @param maze Maze object which is going to be solved
+     */
+    public JumpPointSolver(Maze maze) {
+        super(maze);
+    }
+
+    @Override
+    protected void start() {
+        int cellCount = this.maze.getCellCount();
+        if (this.open == null) {
+            this.open = new IndexHeap(1024);
+        }
+        this.open.clear();
+        this.distances = reuse(this.distances, cellCount);
+        this.parents = reuse(this.parents, cellCount);
+        this.visited = reuse(this.visited, cellCount);
+        this.closed = reuse(this.closed, cellCount);
+        this.width = this.maze.getWidth();
+        this.height = this.maze.getHeight();
+        this.exit = this.maze.getExitIndex();
+        this.exitX = this.exit % this.width;
+        this.exitY = this.exit / this.width;
+        int entrance = this.maze.getEntranceIndex();
+        this.distances[entrance] = 0;
+        this.parents[entrance] = -1;
+        this.visit(entrance, this.visited);
+        this.open.push(this.key(entrance, 0), entrance);
+        this.last = entrance;
+    }
+
+    @Override
+    protected boolean expand() {
+        int current = -1;
+        while (!this.open.isEmpty()) {
+            int candidate = this.open.pop();
+            if (!this.closed.get(candidate)) {
+                current = candidate;
+                break;
+            }
+        }
+        if (current == -1) {
+            this.exhausted = true;
+            return true;
+        }
+        this.closed.set(current);
+        this.nodesExpanded++;
+        this.last = current;
+        if (current == this.exit) {
+            // the jumps are longer than one cell, so the exit may still be reached more cheaply until it is expanded
+            this.finished = true;
+            return true;
+        }
+        int x = current % this.width;
+        int y = current / this.width;
+        int parent = this.parents[current];
+        boolean reachedNew = false;
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            if (parent != -1 && this.isPruned(current, parent, d)) {
+                continue;
+            }
+            int jumpPoint = this.jump(x, y, STEP_X[d], STEP_Y[d]);
+            if (jumpPoint == -1 || this.closed.get(jumpPoint)) {
+                continue;
+            }
+            int distance = this.distances[current] + Math.abs(jumpPoint % this.width - x) + Math.abs(jumpPoint / this.width - y);
+            if (this.visited.get(jumpPoint) && distance >= this.distances[jumpPoint]) {
+                continue;
+            }
+            this.distances[jumpPoint] = distance;
+            this.parents[jumpPoint] = current;
+            this.visit(jumpPoint, this.visited);
+            this.open.push(this.key(jumpPoint, distance), jumpPoint);
+            reachedNew = true;
+        }
+        if (!reachedNew) {
+            this.metrics.deadEnds++;
+        }
+        this.metrics.frontier(this.open.size());
+        return false;
+    }
+
+    /**
+     * Checks whether a direction can be left out when expanding a jump point - the way back along the jump
+     * which reached it, as the cells there were reached at least as cheaply from the jump point before.
+     * @param current Integer index of the expanded jump point
+     * @param parent Integer index of the jump point it was reached from
+     * @param direction Integer position in DIRECTIONS of the move which is checked
+     * @return True if no shortest route starts with the move
+     */
+    private boolean isPruned(int current, int parent, int direction) {
+        int dx = Integer.signum(current % this.width - parent % this.width);
+        int dy = Integer.signum(current / this.width - parent / this.width);
+        return STEP_X[direction] == -dx && STEP_Y[direction] == -dy;
+    }
+
+    /**
+     * Moves from a cell in a straight line until it reaches a jump point - a cell a shortest route may turn at.
+     * A horizontal move stops at the exit and at the cells with a corridor to the side which was blocked by a wall
+     * one cell earlier. A vertical move stops at the same kind of cells, and also where a horizontal move from the cell
+     * would stop - the rows are scanned on the way so that they do not have to be queued.
+     * @param x Integer column of the cell the move starts from
+     * @param y Integer row of the cell the move starts from
+     * @param dx Integer - the column step, -1, 0 or 1
+     * @param dy Integer - the row step, -1, 0 or 1
+     * @return Integer index of the reached jump point, or -1 if the move ends at a wall or at the border of the Maze
+     */
+    private int jump(int x, int y, int dx, int dy) {
+        while (true) {
+            x += dx;
+            y += dy;
+            if (!this.isOpen(x, y)) {
+                return -1;
+            }
+            int index = y * this.width + x;
+            if (index == this.exit) {
+                return index;
+            }
+            if (dx != 0) {
+                if ((this.isOpen(x, y - 1) && !this.isOpen(x - dx, y - 1)) || (this.isOpen(x, y + 1) && !this.isOpen(x - dx, y + 1))) {
+                    return index;
+                }
+            } else {
+                if ((this.isOpen(x - 1, y) && !this.isOpen(x - 1, y - dy)) || (this.isOpen(x + 1, y) && !this.isOpen(x + 1, y - dy))) {
+                    return index;
+                }
+                if (this.jump(x, y, 1, 0) != -1 || this.jump(x, y, -1, 0) != -1) {
+                    return index;
+                }
+            }
+        }
+    }
+
+    private boolean isOpen(int x, int y) {
+        return x >= 0 && y >= 0 && x < this.width && y < this.height && this.maze.isNavigable(y * this.width + x);
+    }
+
+    private long key(int index, int distance) {
+        int heuristic = Math.abs(index % this.width - this.exitX) + Math.abs(index / this.width - this.exitY);
+        // ties on the estimated length are broken towards the cell closer to the exit
+        return ((long) (distance + heuristic) << 32) | heuristic;
+    }
+
+    /**
+     * Provides us with the route to the most recently expanded jump point, with the cells between the jump points
+     * filled in - every jump point is on the same row or column as the one it was reached from
+     * @return Array of cell indices ordered from the entrance onwards
+     */
+    @Override
+    protected int[] currentRoute() {
+        int[] route = new int[this.distances[this.last] + 1];
+        int length = route.length;
+        for (int current = this.last; current != -1; current = this.parents[current]) {
+            int parent = this.parents[current];
+            int step = parent == -1 ? 0 : Integer.signum(parent - current) * (parent / this.width == current / this.width ? 1 : this.width);
+            for (int cell = current; cell != parent; cell += step) {
+                route[--length] = cell;
+                if (step == 0) {
+                    break;
+                }
+            }
+        }
+        return route;
+    }
+
+    @Override
+    protected boolean isExplored(int index) {
+        return this.visited.get(index);
+    }
+}
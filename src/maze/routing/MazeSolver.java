@@ -0,0 +1,112 @@
+package maze.routing;
+
+import maze.Maze;
+import maze.Tile;
+import java.util.List;
+
+/**
+ *	Interface handling the common contract of all the route finding strategies.
+ *  A solver is advanced one step at a time, so that the search can be visualised.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public interface MazeSolver {
+    /**
+     * A method which provides us with the Maze which is being solved
+     * @return Maze object which the solver was created with
+     */
+    Maze getMaze();
+
+    /**
+     * Starts the search over on a given Maze, which may be the same one again.
+     * The arrays of the previous search are kept and reused where they are large enough,
+     * so one solver can solve many mazes without creating new buffers for each of them.
+     * The registered listeners stay registered, but are not told about the cells the previous search changed.
+     * @param maze Maze object which is going to be solved
+     */
+    void reset(Maze maze);
+
+    /**
+     * A method which advances the search by one step.
+     * @return Boolean value. True if an exit is found or if it is sure that the exit cannot be reached.
+     * False in any other case.
+     */
+    boolean step();
+
+    /**
+     * A method which advances the search by a given number of steps, stopping early if the search is over.
+     * Listeners may be told about the changes of the route only once, at the end,
+     * which makes this cheaper than calling step() in a loop when the changes are only shown afterwards.
+     * @param steps Integer - the maximum number of steps
+     * @return Boolean value, the same as the last step() would return
+     */
+    boolean step(int steps);
+
+    /**
+     * Runs the search until the exit is found or it is sure that the exit cannot be reached.
+     * The final route is the same as the one produced by calling step() in a loop.
+     * @return Boolean value, the same as the last call to step() would return - always True.
+     */
+    boolean solve();
+
+    /**
+     * Runs the search for at most a given time.
+     * @param timeoutMillis long - the maximum time in milliseconds the search may run for
+     * @return Boolean value. True if an exit is found or if it is sure that the exit cannot be reached.
+     * False if the time ran out first - the search can then be continued with step() or solve().
+     */
+    boolean solve(long timeoutMillis);
+
+    /**
+     * A method which provides us with information whether the solver has found the exit.
+     * @return Boolean value, True only after a route to the exit is found.
+     */
+    boolean isFinished();
+
+    /**
+     * A method which provides us with the outcome of the search so far.
+     * @return SearchOutcome - ROUTE_FOUND once the exit is found, NO_ROUTE once it is sure that the exit cannot be
+     * reached, IN_PROGRESS before either of them.
+     */
+    SearchOutcome getOutcome();
+
+    /**
+     * Sets whether the first step of a search checks that the exit can be reached at all, by labelling the
+     * ConnectedComponents of the Maze. If the entrance and the exit are in different components, the search ends
+     * with NO_ROUTE right away, without expanding any cell. The labelling takes one pass over the cells and an int
+     * per cell, which pays off when a Maze may have no route. It is counted as preprocessing. Off by default.
+     * @param check Boolean - True to check the reachability of the exit before every search
+     */
+    void setReachabilityCheck(boolean check);
+
+    /**
+     * A method which returns the Route which is created until now.
+     * Once the solver is finished, this is the route from the entrance to the exit, both included.
+     * @return List of Tiles, ordered from the entrance onwards. Empty if the search has not started.
+     */
+    List<Tile> getRoute();
+
+    /**
+     * A method which provides us with the number of cells the solver has expanded so far.
+     * @return Integer count of the expanded cells
+     */
+    int getNodesExpanded();
+
+    /**
+     * Provides us with the counters and timings of the current search, which are updated as it runs
+     * @return SearchMetrics of the search since the solver was created or last reset
+     */
+    SearchMetrics getMetrics();
+
+    /**
+     * Registers a listener which is notified about every cell the search changes from now on
+     * @param listener SearchListener which is going to be notified
+     */
+    void addSearchListener(SearchListener listener);
+
+    /**
+     * Stops notifying a listener which was registered with addSearchListener()
+     * @param listener SearchListener which is not going to be notified anymore
+     */
+    void removeSearchListener(SearchListener listener);
+}
@@ -0,0 +1,17 @@
+package maze.routing;
+
+/**
+ *	Interface handling the reports of finished searches, for feeding them into monitoring.
+ *  Listeners are registered with RoutingMetrics.addListener() and hear about the searches of every solver.
+ *  The method is called on the thread which ran the search, so it should return quickly.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public interface MetricsListener {
+    /**
+     * Called once per search, when the exit is found or it is sure that the exit cannot be reached
+     * @param solver MazeSolver which ran the search - isFinished() tells whether a route was found
+     * @param metrics SearchMetrics of the search, which must not be kept after the method returns
+     */
+    void searchFinished(MazeSolver solver, SearchMetrics metrics);
+}
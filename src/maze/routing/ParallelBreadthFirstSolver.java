@@ -0,0 +1,239 @@
+package maze.routing;
+
+import maze.Maze;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ *	Class handling a level-synchronous parallel breadth-first search.
+ *  Every step expands a whole level of the search - the frontier is split into chunks which are expanded
+ *  on a ForkJoinPool, each into its own part of the next frontier. A cell is claimed by setting its bit
+ *  in an atomic visited bitmap, so exactly one thread records its parent and adds it to the next frontier.
+ *  The route is one of the shortest, like the one of BreadthFirstSolver, but when there are several,
+ *  which one is found may differ between runs.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class ParallelBreadthFirstSolver extends AbstractMazeSolver {
+    // levels smaller than this are expanded on the calling thread, as splitting them costs more than it saves
+    private static final int MIN_CHUNK_SIZE = 2048;
+
+    private final ForkJoinPool pool;
+    private final int chunksPerLevel;
+    private AtomicLongArray visited;
+    private byte[] parents;
+    private int[] frontier;
+    private int frontierSize;
+    private int[][] chunkFrontiers;
+    private int[] chunkSizes;
+    private int[] chunkDeadEnds;
+    private volatile boolean exitFound;
+    private int last;
+
+    /**
+     * A public constructor for creating new Objects of type ParallelBreadthFirstSolver, which run on the common pool
+     * @param maze Maze object which is going to be solved
+     */
+    public ParallelBreadthFirstSolver(Maze maze) {
+        this(maze, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * A public constructor for creating new Objects of type ParallelBreadthFirstSolver, which run on a given pool
+     * @param maze Maze object which is going to be solved
+     * @param pool ForkJoinPool whose threads expand the levels
+     */
+    public ParallelBreadthFirstSolver(Maze maze, ForkJoinPool pool) {
+        super(maze);
+        this.pool = pool;
+        // a few chunks per thread even out levels whose parts take different times
+        this.chunksPerLevel = pool.getParallelism() * 4;
+    }
+
+    @Override
+    protected void start() {
+        int cellCount = this.maze.getCellCount();
+        int words = (cellCount + 63) >>> 6;
+        if (this.visited == null || this.visited.length() < words) {
+            this.visited = new AtomicLongArray(words);
+        } else {
+            for (int word = 0; word < words; word++) {
+                this.visited.set(word, 0);
+            }
+        }
+        this.parents = reuse(this.parents, cellCount);
+        this.frontier = reuse(this.frontier, 16);
+        if (this.chunkFrontiers == null) {
+            this.chunkFrontiers = new int[this.chunksPerLevel][16];
+            this.chunkSizes = new int[this.chunksPerLevel];
+            this.chunkDeadEnds = new int[this.chunksPerLevel];
+        }
+        this.frontierSize = 0;
+        this.exitFound = false;
+        int entrance = this.maze.getEntranceIndex();
+        clearParent(this.parents, entrance);
+        this.tryVisit(entrance);
+        this.notifyExplored(entrance);
+        this.frontier[this.frontierSize++] = entrance;
+        this.last = entrance;
+    }
+
+    /**
+     * Expands every cell of the current level
+     * @return Boolean value. True if the search is over, False otherwise.
+     */
+    @Override
+    protected boolean expand() {
+        if (this.frontierSize == 0) {
+            this.exhausted = true;
+            return true;
+        }
+        int chunks = (int) Math.min(this.chunksPerLevel, (this.frontierSize + MIN_CHUNK_SIZE - 1L) / MIN_CHUNK_SIZE);
+        int chunkSize = (this.frontierSize + chunks - 1) / chunks;
+        if (chunks == 1) {
+            this.expandChunk(0, 0, this.frontierSize);
+        } else {
+            this.pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    LevelChunk[] tasks = new LevelChunk[chunks];
+                    for (int c = 0; c < chunks; c++) {
+                        int from = c * chunkSize;
+                        tasks[c] = new LevelChunk(c, from, Math.min(ParallelBreadthFirstSolver.this.frontierSize, from + chunkSize));
+                    }
+                    invokeAll(tasks);
+                }
+            });
+        }
+        this.nodesExpanded += this.frontierSize;
+        this.last = this.frontier[this.frontierSize - 1];
+        this.mergeChunks(chunks);
+        if (this.exitFound) {
+            this.last = this.maze.getExitIndex();
+            this.finished = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Joins the parts of the next level which the chunks found into the frontier, and tells the listeners about them.
+     * Runs on the calling thread, after all the chunks are done.
+     */
+    private void mergeChunks(int chunks) {
+        int size = 0;
+        for (int c = 0; c < chunks; c++) {
+            size += this.chunkSizes[c];
+            this.metrics.deadEnds += this.chunkDeadEnds[c];
+        }
+        if (size > this.frontier.length) {
+            this.frontier = new int[Math.max(size, this.frontier.length * 2)];
+        }
+        int position = 0;
+        for (int c = 0; c < chunks; c++) {
+            System.arraycopy(this.chunkFrontiers[c], 0, this.frontier, position, this.chunkSizes[c]);
+            position += this.chunkSizes[c];
+        }
+        this.frontierSize = size;
+        this.metrics.frontier(size);
+        for (int i = 0; i < size; i++) {
+            this.notifyExplored(this.frontier[i]);
+        }
+    }
+
+    /**
+     * Expands a part of the current level into the buffer of a chunk. Runs on the threads of the pool.
+     */
+    private void expandChunk(int chunk, int from, int to) {
+        int[] next = this.chunkFrontiers[chunk];
+        // every cell adds at most 4 neighbours
+        if (next.length < (to - from) * 4) {
+            next = new int[(to - from) * 4];
+            this.chunkFrontiers[chunk] = next;
+        }
+        int size = 0;
+        int deadEnds = 0;
+        int exit = this.maze.getExitIndex();
+        for (int i = from; i < to; i++) {
+            int current = this.frontier[i];
+            int sizeBefore = size;
+            for (int d = 0; d < DIRECTIONS.length; d++) {
+                int neighbour = this.maze.getAdjacentIndex(current, DIRECTIONS[d]);
+                if (neighbour == -1 || !this.maze.isNavigable(neighbour) || !this.tryVisit(neighbour)) {
+                    continue;
+                }
+                setParent(this.parents, neighbour, d);
+                if (neighbour == exit) {
+                    this.exitFound = true;
+                }
+                next[size++] = neighbour;
+            }
+            if (size == sizeBefore) {
+                deadEnds++;
+            }
+        }
+        this.chunkSizes[chunk] = size;
+        this.chunkDeadEnds[chunk] = deadEnds;
+    }
+
+    /**
+     * Claims a cell by setting its bit in the visited bitmap
+     * @param index Integer index of the cell
+     * @return True if this call set the bit, False if the cell was already visited
+     */
+    private boolean tryVisit(int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+        long current = this.visited.get(word);
+        while ((current & bit) == 0) {
+            if (this.visited.compareAndSet(word, current, current | bit)) {
+                return true;
+            }
+            current = this.visited.get(word);
+        }
+        return false;
+    }
+
+    /**
+     * Levels can take long on large mazes, so the clock is read after every one of them
+     * @return Integer 1
+     */
+    @Override
+    protected int timeoutCheckInterval() {
+        return 1;
+    }
+
+    @Override
+    protected int[] currentRoute() {
+        return this.pathTo(this.parents, this.last);
+    }
+
+    @Override
+    protected boolean isExplored(int index) {
+        return (this.visited.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    /**
+     *	Handles expanding one chunk of a level as a task of the pool.
+     */
+    private class LevelChunk extends RecursiveAction {
+        // the tasks only live for one level, they are never serialized
+        private static final long serialVersionUID = 1L;
+
+        private final int chunk;
+        private final int from;
+        private final int to;
+
+        LevelChunk(int chunk, int from, int to) {
+            this.chunk = chunk;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            ParallelBreadthFirstSolver.this.expandChunk(this.chunk, this.from, this.to);
+        }
+    }
+}
@@ -4,8 +4,10 @@ import maze.Maze;
 import maze.Tile;
 import java.io.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Stack;
+import java.util.concurrent.TimeUnit;
 
 /**
  *	Class handling creation and usage of the Route Finder.
@@ -13,11 +15,49 @@ import java.util.Stack;
  *	@author	Christyan	Stoyanov
  *	@version 1.1,	6th	May	2021
  */
-public class RouteFinder implements Serializable{
+public class RouteFinder implements MazeSolver, Serializable{
+    private static final Maze.Direction[] SEARCH_ORDER = {
+            Maze.Direction.NORTH, Maze.Direction.EAST, Maze.Direction.SOUTH, Maze.Direction.WEST
+    };
+    // Binary route format: "ROUT", version, finished, nodes expanded, the Maze, route indices, used Tiles bitmap
+    private static final int MAGIC = 0x524F5554;
+    private static final int FORMAT_VERSION = 1;
+    // The clock is only read once per this many iterations of solve(timeout)
+    static final int TIMEOUT_CHECK_INTERVAL = 4096;
+    // Moves of the step history - a cell pushed from the top of the route in a SEARCH_ORDER direction (0 to 3),
+    // the entrance pushed, a cell popped which lies in a SEARCH_ORDER direction from the new top (POPPED + 0 to 3)
+    // and the entrance popped. The cells follow from the route, so one byte per step is enough.
+    private static final byte ENTERED = 4;
+    private static final byte POPPED = 5;
+    private static final byte LEFT = 9;
+    private static final int INITIAL_HISTORY_CAPACITY = 1024;
+
     private Maze maze;
-    private Stack<Tile> route;
+    // The route is a stack of cell indices - route[0] is the entrance and route[routeLength - 1] the top
+    private int[] route;
+    private int routeLength = 0;
+    private boolean started = false;
     private boolean finished = false;
-    private List<Tile> usedTiles;
+    // Membership of each cell index in the route and in the dead ends, so that lookups do not scan the route
+    private BitSet onRoute;
+    private BitSet usedTiles;
+    private int nodesExpanded = 0;
+    // number of pushes and pops which led to the current state
+    private int stepNumber = 0;
+    // The step history is a ring buffer of the moves of the latest steps, the oldest one at historyStart
+    private transient byte[] history;
+    private transient int historyStart = 0;
+    private transient int historySize = 0;
+    private transient int historyLimit = 0;
+    private transient SearchListeners listeners = new SearchListeners();
+    private transient SearchMetrics metrics = new SearchMetrics();
+    // whether the last change of the route was a push, so that a pop right after it is counted as a dead end
+    private transient boolean advancing = false;
+    private transient boolean reported = false;
+    private transient boolean checkReachability = false;
+    // the labels of the last Maze whose reachability was checked, kept for the following searches of the same Maze
+    // until it is edited
+    private transient ConnectedComponents components;
 
     /**
      * A public constructor for creating new Objects of type RouteFinder using a Maze object as a parameter
@@ -25,6 +65,126 @@ public class RouteFinder implements Serializable{
      */
     public RouteFinder(Maze maze){
         this.maze = maze;
+        this.metrics.clear(maze);
+    }
+
+    /**
+     * Starts the search over on a given Maze, keeping the route array and the bitmaps of the previous search
+     * @param maze Maze object which is going to be solved
+     */
+    public void reset(Maze maze) {
+        this.maze = maze;
+        this.routeLength = 0;
+        this.started = false;
+        this.finished = false;
+        this.nodesExpanded = 0;
+        this.stepNumber = 0;
+        this.historyStart = 0;
+        this.historySize = 0;
+        this.advancing = false;
+        this.reported = false;
+        this.metrics().clear(maze);
+    }
+
+    /**
+     * Sets how many of the latest steps are remembered, so that the search can be stepped back through them.
+     * Every step takes one byte, and the memory grows with the steps up to the limit - then the oldest ones
+     * are forgotten. The steps remembered so far are forgotten too. The history is off by default.
+     * @param steps Integer - the most steps which can be stepped back, 0 to turn the history off
+     */
+    public void setHistoryLimit(int steps) {
+        if (steps < 0) {
+            throw new IllegalArgumentException("History limit cannot be negative");
+        }
+        this.historyLimit = steps;
+        this.history = steps == 0 ? null : new byte[Math.min(steps, INITIAL_HISTORY_CAPACITY)];
+        this.historyStart = 0;
+        this.historySize = 0;
+    }
+
+    /**
+     * Provides us with the most steps which are remembered
+     * @return Integer number of steps, 0 if the history is off
+     */
+    public int getHistoryLimit() {
+        return this.historyLimit;
+    }
+
+    /**
+     * Provides us with the number of the current step - how many cells were pushed to or popped from the route
+     * to reach the current state. Steps which only find out that the search is over are not counted.
+     * @return Integer number of the step, 0 before the search has started
+     */
+    public int getStepNumber() {
+        return this.stepNumber;
+    }
+
+    /**
+     * Provides us with the number of the earliest step the search can be stepped back to
+     * @return Integer number of the step, the same as getStepNumber() if nothing is remembered
+     */
+    public int getEarliestStep() {
+        return this.stepNumber - this.historySize;
+    }
+
+    /**
+     * Undoes the latest remembered step, putting the route and the used Tiles back as they were before it.
+     * The listeners are notified about the cells which change. The SearchMetrics keep counting the work done,
+     * so they are not stepped back - apart from the nodes expanded, which follow the route.
+     * Stepping forward again makes the same moves as before, since the search only depends on its state.
+     * @return Boolean value. True if a step was undone, False if there are no remembered steps.
+     */
+    public boolean stepBack() {
+        if (this.historySize == 0) {
+            return false;
+        }
+        this.historySize--;
+        byte move = this.history[(this.historyStart + this.historySize) % this.history.length];
+        this.stepNumber--;
+        this.finished = false;
+        this.advancing = false;
+        if (move <= ENTERED) {
+            int index = this.route[--this.routeLength];
+            this.onRoute.clear(index);
+            this.nodesExpanded--;
+            if (move == ENTERED) {
+                this.started = false;
+            }
+            this.listeners().routeCellRemoved(index);
+        } else {
+            int index = move == LEFT ? this.maze.getEntranceIndex()
+                    : this.maze.getAdjacentIndex(this.route[this.routeLength - 1], SEARCH_ORDER[move - POPPED]);
+            this.usedTiles.clear(index);
+            // the cell was on the route before, so the route array has room for it
+            this.route[this.routeLength++] = index;
+            this.onRoute.set(index);
+            this.listeners().cellUnexplored(index);
+            this.listeners().routeCellAdded(index);
+        }
+        return true;
+    }
+
+    /**
+     * Moves the search to a given step - back through the remembered steps, or forward by searching.
+     * Every step takes constant time, apart from the occasional growth of the route and the history.
+     * @param step Integer number of the step to go to
+     * @return Integer number of the step which was reached. It is earlier than the requested one if the search
+     * was over before it, and later if the requested step is no longer remembered.
+     */
+    public int jumpToStep(int step) {
+        while (this.stepNumber > step && this.stepBack()) {
+            // every call undoes one step
+        }
+        if (this.stepNumber < step) {
+            long start = System.nanoTime();
+            long preprocessed = this.metrics().preprocessNanos;
+            boolean over = this.isFinished();
+            while (this.stepNumber < step && !over) {
+                over = this.advance();
+            }
+            this.searched(start, preprocessed, over);
+        }
+        return this.stepNumber;
     }
 
     /**
@@ -37,16 +197,15 @@ public class RouteFinder implements Serializable{
 
     /**
      * A method which returns the Route which is created until now.
-     * It creates a List of Tiles and, if the Stack of Tiles route is non-empty, it adds its elements to the List.
-     * @return If route is null, it returns just an empty List of Tile.
-     * If route not empty, it returns route, transformed to a List of Tiles.
+     * The Tiles are only created here - while searching the route is kept as cell indices.
+     * @return If the search has not started, it returns just an empty List of Tile.
+     * Otherwise it returns the route, transformed to a List of Tiles.
      */
     public List<Tile> getRoute() {
-        List<Tile> tileList = new ArrayList<>();
-        if(this.route == null){
-            return tileList;
+        List<Tile> tileList = new ArrayList<>(this.routeLength);
+        for (int i = 0; i < this.routeLength; i++) {
+            tileList.add(this.maze.getTileAtIndex(this.route[i]));
         }
-        tileList.addAll(this.route);
         return tileList;
     }
 
@@ -58,143 +217,505 @@ public class RouteFinder implements Serializable{
         return this.finished;
     }
 
+    /**
+     * A method which provides us with the outcome of the search so far.
+     * The search is sure that the exit cannot be reached once all the cells were taken off the route.
+     * @return SearchOutcome - ROUTE_FOUND once the exit is found, NO_ROUTE once the route is empty, IN_PROGRESS before
+     */
+    public SearchOutcome getOutcome() {
+        if (this.finished) {
+            return SearchOutcome.ROUTE_FOUND;
+        }
+        return this.started && this.routeLength == 0 ? SearchOutcome.NO_ROUTE : SearchOutcome.IN_PROGRESS;
+    }
+
+    /**
+     * Sets whether the first step checks that the exit can be reached at all, by labelling the ConnectedComponents
+     * of the Maze. If it cannot, the entrance is never put on the route, so the search ends with NO_ROUTE right away.
+     * @param check Boolean - True to check the reachability of the exit before every search
+     */
+    public void setReachabilityCheck(boolean check) {
+        this.checkReachability = check;
+    }
+
+    /**
+     * Labels the components of the Maze, unless they were labelled for an earlier search of the same Maze
+     * and it was not edited since, and checks whether the exit is in the component of the entrance
+     * @return True if there is a route from the entrance to the exit
+     */
+    private boolean isExitReachable() {
+        if (this.components == null || this.components.getMaze() != this.maze || !this.components.isCurrent()) {
+            long start = System.nanoTime();
+            this.components = ConnectedComponents.label(this.maze);
+            this.metrics().preprocessNanos += System.nanoTime() - start;
+        }
+        return this.components.isExitReachable();
+    }
+
+    /**
+     * A method which provides us with the number of Tiles which were put on the route so far.
+     * @return Integer count of the expanded cells
+     */
+    public int getNodesExpanded() {
+        return this.nodesExpanded;
+    }
+
+    /**
+     * Provides us with the counters and timings of the current search.
+     * Every cell taken off the route is a backtrack, and one taken off right after it was put on is a dead end.
+     * @return SearchMetrics of the search since the RouteFinder was created or last reset
+     */
+    public SearchMetrics getMetrics() {
+        SearchMetrics metrics = this.metrics();
+        metrics.nodesExpanded = this.nodesExpanded;
+        metrics.readChunks(this.maze);
+        return metrics;
+    }
+
+    // the field is transient, so it is null after Java deserialization
+    private SearchMetrics metrics() {
+        if (this.metrics == null) {
+            this.metrics = new SearchMetrics();
+        }
+        return this.metrics;
+    }
+
+    /**
+     * Adds the time of a call, apart from the preprocessing done in it, to the search time
+     * and reports the search to RoutingMetrics once it is over
+     */
+    private void searched(long start, long preprocessed, boolean over) {
+        SearchMetrics metrics = this.metrics();
+        metrics.searchNanos += System.nanoTime() - start - (metrics.preprocessNanos - preprocessed);
+        if (over && !this.reported) {
+            this.reported = true;
+            RoutingMetrics.searchFinished(this, this.getMetrics());
+        }
+    }
+
+    /**
+     * Registers a listener which is notified about every cell pushed to or popped from the route from now on.
+     * A popped cell is a dead end, so cellExplored() is sent right after its routeCellRemoved().
+     * @param listener SearchListener which is going to be notified
+     */
+    public void addSearchListener(SearchListener listener) {
+        this.listeners().add(listener);
+    }
+
+    /**
+     * Stops notifying a listener which was registered with addSearchListener()
+     * @param listener SearchListener which is not going to be notified anymore
+     */
+    public void removeSearchListener(SearchListener listener) {
+        this.listeners().remove(listener);
+    }
+
+    // the field is transient, so it is null after Java deserialization
+    private SearchListeners listeners() {
+        if (this.listeners == null) {
+            this.listeners = new SearchListeners();
+        }
+        return this.listeners;
+    }
+
     /**
      * A void method which saves the current RouteFinder object in a File which is located at a given path.
+     * The File uses a versioned binary format - a header, the Maze in its own binary format,
+     * the route as a list of cell indices and the used Tiles as a bitmap.
      * @param path String which shows the location where the File should be saved
-     * @throws IOException Indicates a problem with either ObjectOutputStream, FileOutputStream or the function writeObject.
+     * @throws IOException Indicates a problem with writing the File.
      * This may be caused by providing an illegal path.
      */
     public void save(String path) throws IOException {
-        new ObjectOutputStream(new FileOutputStream(path)).writeObject(this);
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeBoolean(this.finished);
+            output.writeInt(this.nodesExpanded);
+            this.maze.write(output);
+            if (!this.started) {
+                output.writeInt(-1);
+                return;
+            }
+            output.writeInt(this.routeLength);
+            for (int i = 0; i < this.routeLength; i++) {
+                output.writeInt(this.route[i]);
+            }
+            long[] bitmap = this.usedTiles.toLongArray();
+            output.writeInt(bitmap.length);
+            for (long word : bitmap) {
+                output.writeLong(word);
+            }
+        }
     }
 
     /**
      * Provides us with the ability to create a Route Finder object from reading a file which has the needed data.
-     * It creates a RouteFinder after a call to the readObject function of a ObjectInputStream, with parameter FileInputStream, which is created
-     * with a parameter path. Then it is casted to as RouteFinder.
+     * The File has to be written by save().
      * @param path String which indicates the location of the path from where it should load
-     * @return Returns null and an exception, if there is a problem with reading the object in the File, located at path.
+     * @return Returns null and an exception, if there is a problem with reading the File, located at path.
      * Returns a newly created RouteFinder object with data from the File, located at path, if everything is working
      * properly and the data is valid.
      */
     public static RouteFinder load(String path){
         RouteFinder routeFinder = null;
-        try {
-            routeFinder = (RouteFinder) new ObjectInputStream(new FileInputStream(path)).readObject();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(path)))) {
+            routeFinder = read(input);
         } catch (Exception e) {
             e.printStackTrace();
         }
         return routeFinder;
     }
 
+    private static RouteFinder read(DataInputStream input) throws IOException {
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a route file");
+        }
+        int version = input.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported route file version " + version);
+        }
+        boolean finished = input.readBoolean();
+        int nodesExpanded = input.readInt();
+        RouteFinder routeFinder = new RouteFinder(Maze.read(input));
+        routeFinder.finished = finished;
+        routeFinder.nodesExpanded = nodesExpanded;
+        int routeLength = input.readInt();
+        if (routeLength == -1) {
+            return routeFinder;
+        }
+        int cellCount = routeFinder.maze.getCellCount();
+        if (routeLength < 0 || routeLength > cellCount) {
+            throw new IOException("Route file has an invalid route length");
+        }
+        routeFinder.started = true;
+        routeFinder.route = new int[Math.max(16, routeLength)];
+        routeFinder.onRoute = new BitSet(cellCount);
+        for (int i = 0; i < routeLength; i++) {
+            int index = input.readInt();
+            if (index < 0 || index >= cellCount) {
+                throw new IOException("Route file has an invalid route");
+            }
+            routeFinder.push(index);
+        }
+        long[] bitmap = new long[input.readInt()];
+        for (int i = 0; i < bitmap.length; i++) {
+            bitmap[i] = input.readLong();
+        }
+        routeFinder.usedTiles = BitSet.valueOf(bitmap);
+        // every step pushed or popped a cell, and every popped cell is used
+        routeFinder.stepNumber = nodesExpanded + routeFinder.usedTiles.cardinality();
+        return routeFinder;
+    }
+
     /**
-     * A method which generates the next possible state of the route Stack.
+     * A method which generates the next possible state of the route stack.
      * This handles one iteration of a Depth-first search algorithm.
-     * If the current tile on the top of the Stack is a Tile of Type Exit, it returns true,
+     * If the current cell on the top of the route is the Exit, it returns true,
      * indicating that an exit route is find, and doesn't allow any further changes to the current route.
-     * If there are still Tiles in the Stack of Tiles route, it either progresses forward or goes back.
-     * If there aren't such Tiles, it indicates that an exit route can't be found.
+     * If there are still cells on the route, it either progresses forward or goes back.
+     * If there aren't such cells, it indicates that an exit route can't be found.
+     * No objects are created by a step.
      * @return Boolean value. True if an exit us found or if it is sure that the exit cannot be reached.
      * False in any other case.
      */
     public boolean step() {
+        long start = System.nanoTime();
+        long preprocessed = this.metrics().preprocessNanos;
+        boolean over = this.advance();
+        this.searched(start, preprocessed, over);
+        return over;
+    }
+
+    private boolean advance() {
         if(this.isFinished()){
             return true;
         }else {
-            if (this.route == null && !this.isFinished()) {
-                this.route = new Stack<>();
-                this.usedTiles = new ArrayList<>();
-                this.route.push(maze.getEntrance());
+            this.metrics().steps++;
+            if (!this.started) {
+                this.begin();
+                if (this.checkReachability && !this.isExitReachable()) {
+                    // the route stays empty, which is the state of a search that found no exit
+                    return true;
+                }
+                this.push(this.maze.getEntranceIndex());
+                this.nodesExpanded++;
+                this.record(ENTERED);
+                this.listeners().routeCellAdded(this.maze.getEntranceIndex());
             } else {
-                if (this.route.isEmpty()) {
-                    System.out.println("No exit");
+                if (this.routeLength == 0) {
+                    // the exit cannot be reached - getOutcome() tells NO_ROUTE
                     return true;
                 }
 
-                Tile tileToBeAdded;
-                tileToBeAdded = this.maze.getAdjacentTile(this.route.peek(), Maze.Direction.NORTH);
-                if (adjacentIsValid(tileToBeAdded)) {
-                    if (tileToBeAdded.getType() == Tile.Type.EXIT) {
-                        this.finished = true;
-                        return true;
-                    }
-                } else {
-
-                    tileToBeAdded = this.maze.getAdjacentTile(this.route.peek(), Maze.Direction.EAST);
-                    if (adjacentIsValid(tileToBeAdded)) {
-                        if (tileToBeAdded.getType() == Tile.Type.EXIT) {
+                int current = this.route[this.routeLength - 1];
+                boolean moved = false;
+                for (int direction = 0; direction < SEARCH_ORDER.length; direction++) {
+                    int next = this.maze.getAdjacentIndex(current, SEARCH_ORDER[direction]);
+                    if (adjacentIsValid(next)) {
+                        this.record(direction);
+                        if (this.maze.getType(next) == Tile.Type.EXIT) {
                             this.finished = true;
                             return true;
                         }
-                    } else {
-
-                        tileToBeAdded = this.maze.getAdjacentTile(this.route.peek(), Maze.Direction.SOUTH);
-                        if (adjacentIsValid(tileToBeAdded)) {
-                            if (tileToBeAdded.getType() == Tile.Type.EXIT) {
-                                this.finished = true;
-                                return true;
-                            }
-                        } else {
-
-                            tileToBeAdded = this.maze.getAdjacentTile(this.route.peek(), Maze.Direction.WEST);
-                            if (adjacentIsValid(tileToBeAdded)) {
-                                if (tileToBeAdded.getType() == Tile.Type.EXIT) {
-                                    this.finished = true;
-                                    return true;
-                                }
-                            } else {
-
-                                this.usedTiles.add(route.pop());
-                            }
-                        }
+                        moved = true;
+                        break;
                     }
                 }
+                if (!moved) {
+                    this.routeLength--;
+                    this.backtrack();
+                    this.onRoute.clear(current);
+                    this.usedTiles.set(current);
+                    this.record(this.popMove(this.route, this.routeLength, current));
+                    this.listeners().routeCellRemoved(current);
+                    this.listeners().cellExplored(current);
+                }
             }
             return false;
         }
     }
 
     /**
-     * Private method which checks if a movement to the adjacent Tile is valid
-     * @param tile Tile for which we want to check if movement to is valid
+     * A method which makes up to a given number of steps, stopping early if the search is over.
+     * The listeners are notified about every push and pop, exactly as by step().
+     * @param steps Integer - the maximum number of steps
+     * @return Boolean value, the same as the last step() would return
+     */
+    public boolean step(int steps) {
+        long start = System.nanoTime();
+        long preprocessed = this.metrics().preprocessNanos;
+        boolean over = this.isFinished();
+        for (int i = 0; i < steps && !over; i++) {
+            over = this.advance();
+        }
+        this.searched(start, preprocessed, over);
+        return over;
+    }
+
+    /**
+     * Runs the search until the exit is found or it is sure that the exit cannot be reached.
+     * @return Boolean value, the same as the last call to step() would return - always True.
+     */
+    public boolean solve() {
+        return this.solve(Long.MAX_VALUE);
+    }
+
+    /**
+     * Runs the search, for at most a given time, without the per-step overhead of step().
+     * The final route and used Tiles are the same as after calling step() in a loop.
+     * The listeners get the same notifications as well, but when there are none the loop does not check for them.
+     * @param timeoutMillis long - the maximum time in milliseconds the search may run for
+     * @return Boolean value. True if an exit is found or if it is sure that the exit cannot be reached.
+     * False if the time ran out first - the search can then be continued with step() or solve().
+     */
+    public boolean solve(long timeoutMillis) {
+        if (this.finished) {
+            return true;
+        }
+        long start = System.nanoTime();
+        long preprocessed = this.metrics().preprocessNanos;
+        if (!this.started) {
+            this.advance();
+        }
+        long budget = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        SearchMetrics metrics = this.metrics();
+        int exit = this.maze.getExitIndex();
+        int[] stack = this.route;
+        int top = this.routeLength;
+        SearchListeners listeners = this.listeners();
+        boolean notify = !listeners.isEmpty();
+        boolean over = false;
+        int iterations = 0;
+        while (top > 0) {
+            if (++iterations % TIMEOUT_CHECK_INTERVAL == 0 && System.nanoTime() - start >= budget) {
+                break;
+            }
+            int current = stack[top - 1];
+            int next = -1;
+            int direction = 0;
+            for (; direction < SEARCH_ORDER.length; direction++) {
+                int candidate = this.maze.getAdjacentIndex(current, SEARCH_ORDER[direction]);
+                if (candidate != -1 && !this.usedTiles.get(candidate) && this.maze.isNavigable(candidate)
+                        && !this.onRoute.get(candidate)) {
+                    next = candidate;
+                    break;
+                }
+            }
+            metrics.steps++;
+            if (next == -1) {
+                top--;
+                this.backtrack();
+                this.onRoute.clear(current);
+                this.usedTiles.set(current);
+                this.record(this.popMove(stack, top, current));
+                if (notify) {
+                    listeners.routeCellRemoved(current);
+                    listeners.cellExplored(current);
+                }
+                continue;
+            }
+            if (top == stack.length) {
+                stack = Arrays.copyOf(stack, top * 2);
+            }
+            stack[top++] = next;
+            this.onRoute.set(next);
+            this.nodesExpanded++;
+            this.record(direction);
+            this.advancing = true;
+            metrics.depth(top);
+            if (notify) {
+                listeners.routeCellAdded(next);
+            }
+            if (next == exit) {
+                this.finished = true;
+                over = true;
+                break;
+            }
+        }
+        this.route = stack;
+        this.routeLength = top;
+        if (top == 0) {
+            // the step which finds the route empty
+            metrics.steps++;
+            over = true;
+        }
+        this.searched(start, preprocessed, over);
+        return over;
+    }
+
+    /**
+     * Private method which checks if a movement to the adjacent cell is valid
+     * @param index Row-major index of the cell for which we want to check if movement to is valid, or -1
      * @return Boolean. If several conditions(indicating that movement is illegal) are not met, the return is False.
-     * Otherwise the tile is put to the top of the Stack of Tiles and the return value is True.
+     * Otherwise the cell is put to the top of the route and the return value is True.
      */
-    private boolean adjacentIsValid(Tile tile){
-        if(tile == null || this.usedTiles.contains(tile) || !tile.isNavigable() || this.route.contains(tile)){
+    private boolean adjacentIsValid(int index){
+        if(index == -1 || this.usedTiles.get(index) || !this.maze.isNavigable(index) || this.onRoute.get(index)){
             return false;
         }
-        this.route.push(tile);
+        this.push(index);
+        this.nodesExpanded++;
+        this.listeners().routeCellAdded(index);
         return true;
     }
 
+    /**
+     * Sets up the route and the bitmaps for a new search, reusing those of a previous one
+     */
+    private void begin() {
+        this.started = true;
+        this.routeLength = 0;
+        if (this.route == null) {
+            this.route = new int[16];
+        }
+        if (this.onRoute == null) {
+            this.onRoute = new BitSet(this.maze.getCellCount());
+            this.usedTiles = new BitSet(this.maze.getCellCount());
+        } else {
+            this.onRoute.clear();
+            this.usedTiles.clear();
+        }
+    }
+
+    /**
+     * Puts a cell on the top of the route, growing the route array when it is full
+     * @param index Integer index of the cell
+     */
+    private void push(int index) {
+        if (this.routeLength == this.route.length) {
+            this.route = Arrays.copyOf(this.route, this.routeLength * 2);
+        }
+        this.route[this.routeLength++] = index;
+        this.onRoute.set(index);
+        this.advancing = true;
+        this.metrics().depth(this.routeLength);
+    }
+
+    /**
+     * Counts a step and adds its move to the history, forgetting the oldest move when the history is full
+     * @param move Integer move of the step, as described at ENTERED
+     */
+    private void record(int move) {
+        this.stepNumber++;
+        if (this.historyLimit == 0) {
+            return;
+        }
+        if (this.historySize == this.history.length) {
+            if (this.historySize < this.historyLimit) {
+                // the ring only grows before it is full, while it still starts at 0
+                this.history = Arrays.copyOf(this.history, (int) Math.min(2L * this.historySize, this.historyLimit));
+            } else {
+                this.historyStart = (this.historyStart + 1) % this.history.length;
+                this.historySize--;
+            }
+        }
+        this.history[(this.historyStart + this.historySize) % this.history.length] = (byte) move;
+        this.historySize++;
+    }
+
+    /**
+     * Provides us with the move of a pop, which tells in which direction from the new top of the route the popped cell lies
+     * @param route int array of the route
+     * @param routeLength Integer length of the route after the pop
+     * @param popped Integer index of the popped cell
+     * @return Integer move of the step, 0 when the history is off
+     */
+    private int popMove(int[] route, int routeLength, int popped) {
+        if (this.historyLimit == 0) {
+            return 0;
+        }
+        if (routeLength == 0) {
+            return LEFT;
+        }
+        int top = route[routeLength - 1];
+        int direction = 0;
+        while (this.maze.getAdjacentIndex(top, SEARCH_ORDER[direction]) != popped) {
+            direction++;
+        }
+        return POPPED + direction;
+    }
+
+    /**
+     * Counts a cell taken off the route, as a dead end too if it was put on by the previous change
+     */
+    private void backtrack() {
+        SearchMetrics metrics = this.metrics();
+        metrics.backtracks++;
+        if (this.advancing) {
+            metrics.deadEnds++;
+            this.advancing = false;
+        }
+    }
+
     /**
      * Method which transforms the RouteFinder to a String.
      * An empty StringBuilder which is going to hold the final return value is initialized
-     * For each Tile on each List of Tiles in maze field, we check if it is present in the route.
+     * For each cell on each row of the maze field, we check if it is present in the route.
      * If it is, it is added to the StringBuilder, it as a "*", to indicate that it is part of the route.
-     * Then the same check for being in the List of Used Tiles, however this time it is represented as a "-".
+     * Then the same check for being in the used Tiles, however this time it is represented as a "-".
      * If non of this checks is true, it is put as it is.
-     * After a new List of Tiles is started, a new line is added to the StringBuilder.
+     * After a new row is started, a new line is added to the StringBuilder.
      * @return Returns the created StringBuilder's function toString().
      */
     public String toString(){
-        StringBuilder output = new StringBuilder();
-        for(int i = 0; i < this.maze.getTiles().size(); i++){
-            List<Tile> tileRow = this.maze.getTiles().get(this.maze.getTiles().size() - 1 - i);
-            for(int j = 0; j < tileRow.size(); j++){
-                Tile currentTile = tileRow.get(j);
-                if(this.route == null){
-                    output.append(currentTile.toString());
-                }else {
-                    if (this.route.contains(currentTile)) {
-                        output.append("*");
+        if(!this.started){
+            return this.maze.toString();
+        }
+        int width = this.maze.getWidth();
+        int height = this.maze.getHeight();
+        StringBuilder output = new StringBuilder(height * (width + 1));
+        for(int i = 0; i < height; i++){
+            int rowStart = (height - 1 - i) * width;
+            for(int j = 0; j < width; j++){
+                int index = rowStart + j;
+                if (this.onRoute.get(index)) {
+                    output.append('*');
+                } else {
+                    if (this.usedTiles.get(index)) {
+                        output.append('-');
                     } else {
-                        if (this.usedTiles.contains(currentTile)) {
-                            output.append("-");
-                        } else {
-                            output.append(currentTile.toString());
-                        }
+                        output.append(this.maze.getTileAtIndex(index).toString());
                     }
                 }
             }
@@ -0,0 +1,290 @@
+package maze.routing;
+
+import maze.Maze;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *	Handles answering many shortest route queries between arbitrary cells of the same Maze.
+ *  A query searches once for its target - a breadth-first search from the target gives the distance of every cell to it.
+ *  Such a distance field is cached, and a route to a target with a field is found by gradient descent -
+ *  from the start, every move goes to a neighbour one step closer to the target, so the answer takes time
+ *  in proportion to the length of the route instead of the size of the Maze. The moves are undirected, so a field
+ *  of the start cell answers a query as well as one of the target.
+ *  The fields take 4 bytes per cell each. They are kept under a memory budget, dropping the least recently used ones.
+ *  The service can be used by several threads at once - the cache is guarded by a lock, which is not held while a field is built.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class RouteService {
+    private static final Maze.Direction[] DIRECTIONS = AbstractMazeSolver.DIRECTIONS;
+    private static final int UNREACHABLE = -1;
+
+    private final Maze maze;
+    private final long memoryBudget;
+    private final long fieldBytes;
+    private final Object lock = new Object();
+    // distance fields by the index of their target, in the order of their last use
+    private final LinkedHashMap<Integer, int[]> fields = new LinkedHashMap<>(16, 0.75f, true);
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+    // the revision of the Maze the cached fields were built for
+    private int revision;
+
+    /**
+     * A public constructor for creating new Objects of type RouteService
+     * @param maze Maze object which the queries are about. The cached fields are dropped after it is edited
+     *             with Maze.setWall(), but it must not be edited while a query runs.
+     * @param memoryBudget long - the most memory in bytes the cached distance fields may take.
+     *                     A budget smaller than one field means that no fields are kept.
+     */
+    public RouteService(Maze maze, long memoryBudget) {
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException("Memory budget cannot be negative");
+        }
+        this.maze = maze;
+        this.memoryBudget = memoryBudget;
+        this.fieldBytes = 4L * maze.getCellCount();
+        this.revision = maze.getRevision();
+    }
+
+    /**
+     * Provides us with the length of a shortest route between two cells
+     * @param from Coordinate of the first cell
+     * @param to Coordinate of the second cell
+     * @return Integer number of moves on the route, or -1 if there is no route
+     * @throws IllegalArgumentException Indicates that a Coordinate is outside of the Maze or on a wall
+     */
+    public int getDistance(Maze.Coordinate from, Maze.Coordinate to) {
+        int start = this.cellAt(from);
+        int target = this.cellAt(to);
+        int[] field = this.cachedField(start);
+        if (field != null) {
+            return field[target];
+        }
+        return this.field(target)[start];
+    }
+
+    /**
+     * Provides us with a shortest route between two cells
+     * @param from Coordinate of the cell the route starts from
+     * @param to Coordinate of the cell the route ends at
+     * @return List of the Coordinates on the route, both ends included, or null if there is no route
+     * @throws IllegalArgumentException Indicates that a Coordinate is outside of the Maze or on a wall
+     */
+    public List<Maze.Coordinate> getRoute(Maze.Coordinate from, Maze.Coordinate to) {
+        int start = this.cellAt(from);
+        int target = this.cellAt(to);
+        int[] route;
+        int[] field = this.cachedField(target);
+        if (field != null) {
+            route = this.descend(field, start);
+        } else {
+            field = this.cachedField(start);
+            if (field != null) {
+                route = this.descend(field, target);
+                reverse(route);
+            } else {
+                route = this.descend(this.field(target), start);
+            }
+        }
+        if (route == null) {
+            return null;
+        }
+        List<Maze.Coordinate> coordinates = new ArrayList<>(route.length);
+        for (int index : route) {
+            coordinates.add(this.maze.getCoordinate(index));
+        }
+        return coordinates;
+    }
+
+    /**
+     * Builds and caches the distance field of a target ahead of the queries about it
+     * @param target Coordinate of the target cell
+     * @throws IllegalArgumentException Indicates that the Coordinate is outside of the Maze or on a wall
+     */
+    public void prepare(Maze.Coordinate target) {
+        this.field(this.cellAt(target));
+    }
+
+    private int cellAt(Maze.Coordinate coordinate) {
+        int index = this.maze.getIndex(coordinate);
+        if (index == -1 || !this.maze.isNavigable(index)) {
+            throw new IllegalArgumentException("Coordinate " + coordinate + " is not a navigable cell of the Maze");
+        }
+        return index;
+    }
+
+    /**
+     * Provides us with a cached field of a target, counting the query as a hit if there is one
+     * @return int array of the distances, or null if the field of the target is not cached
+     */
+    private int[] cachedField(int target) {
+        synchronized (this.lock) {
+            this.dropOutdatedFields();
+            int[] field = this.fields.get(target);
+            if (field != null) {
+                this.hits++;
+            }
+            return field;
+        }
+    }
+
+    /**
+     * Provides us with the field of a target, from the cache or by building it.
+     * Two threads may build the same field at once, in which case the second one replaces the first in the cache.
+     * @return int array with the distance of every cell to the target, -1 for the cells which cannot reach it
+     */
+    private int[] field(int target) {
+        int[] field = this.cachedField(target);
+        if (field != null) {
+            return field;
+        }
+        int revision = this.maze.getRevision();
+        field = this.buildField(target);
+        synchronized (this.lock) {
+            this.misses++;
+            this.dropOutdatedFields();
+            if (this.fieldBytes <= this.memoryBudget && revision == this.revision) {
+                this.fields.put(target, field);
+                Iterator<Map.Entry<Integer, int[]>> leastRecentlyUsed = this.fields.entrySet().iterator();
+                while (this.fields.size() * this.fieldBytes > this.memoryBudget) {
+                    leastRecentlyUsed.next();
+                    leastRecentlyUsed.remove();
+                    this.evictions++;
+                }
+            }
+        }
+        return field;
+    }
+
+    /**
+     * Empties the cache if the Maze was edited since its fields were built. Has to be called with the lock held.
+     */
+    private void dropOutdatedFields() {
+        if (this.maze.getRevision() != this.revision) {
+            this.fields.clear();
+            this.revision = this.maze.getRevision();
+        }
+    }
+
+    /**
+     * A breadth-first search from the target over the whole Maze
+     */
+    private int[] buildField(int target) {
+        int[] field = new int[this.maze.getCellCount()];
+        Arrays.fill(field, UNREACHABLE);
+        int[] queue = new int[16];
+        int head = 0;
+        int tail = 0;
+        field[target] = 0;
+        queue[tail++] = target;
+        while (head < tail) {
+            int current = queue[head++];
+            int distance = field[current] + 1;
+            for (Maze.Direction direction : DIRECTIONS) {
+                int next = this.maze.getAdjacentIndex(current, direction);
+                if (next == -1 || field[next] != UNREACHABLE || !this.maze.isNavigable(next)) {
+                    continue;
+                }
+                field[next] = distance;
+                if (tail == queue.length) {
+                    queue = Arrays.copyOf(queue, Math.min(tail * 2, field.length));
+                }
+                queue[tail++] = next;
+            }
+        }
+        return field;
+    }
+
+    /**
+     * Follows a field downhill from a cell to its target
+     * @return int array with the cells from the start to the target, or null if the start cannot reach the target
+     */
+    private int[] descend(int[] field, int start) {
+        int distance = field[start];
+        if (distance == UNREACHABLE) {
+            return null;
+        }
+        int[] route = new int[distance + 1];
+        int current = start;
+        route[0] = current;
+        for (int step = 1; step <= distance; step++) {
+            for (Maze.Direction direction : DIRECTIONS) {
+                int next = this.maze.getAdjacentIndex(current, direction);
+                if (next != -1 && field[next] == distance - step) {
+                    current = next;
+                    break;
+                }
+            }
+            route[step] = current;
+        }
+        return route;
+    }
+
+    private static void reverse(int[] route) {
+        if (route == null) {
+            return;
+        }
+        for (int i = 0, j = route.length - 1; i < j; i++, j--) {
+            int swap = route[i];
+            route[i] = route[j];
+            route[j] = swap;
+        }
+    }
+
+    /**
+     * Provides us with the number of queries answered from a cached field
+     * @return long count of the cache hits
+     */
+    public long getHits() {
+        synchronized (this.lock) {
+            return this.hits;
+        }
+    }
+
+    /**
+     * Provides us with the number of distance fields which had to be built
+     * @return long count of the cache misses
+     */
+    public long getMisses() {
+        synchronized (this.lock) {
+            return this.misses;
+        }
+    }
+
+    /**
+     * Provides us with the number of fields which were dropped to stay within the memory budget
+     * @return long count of the evicted fields
+     */
+    public long getEvictions() {
+        synchronized (this.lock) {
+            return this.evictions;
+        }
+    }
+
+    /**
+     * Provides us with the number of distance fields in the cache
+     * @return Integer count of the cached fields
+     */
+    public int getCachedFields() {
+        synchronized (this.lock) {
+            return this.fields.size();
+        }
+    }
+
+    /**
+     * Provides us with the memory taken by the cached distance fields
+     * @return long number of bytes, never more than the memory budget
+     */
+    public long getCachedBytes() {
+        synchronized (this.lock) {
+            return this.fields.size() * this.fieldBytes;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package maze.routing;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *	Handles the routing metrics of the whole process - the totals of all the finished searches
+ *  and the time spent in every phase of solving a maze.
+ *  Every solver reports its SearchMetrics here once its search is over. The totals can be read through
+ *  getTotals(), exported through JMX with registerMBean(), and every single report is passed on to the
+ *  registered MetricsListeners, so that they can be fed into any other monitoring system.
+ *  The counters are safe to update from many threads at once.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class RoutingMetrics implements RoutingMetricsMXBean {
+    /**
+     * The name the metrics are registered under in the platform MBean server
+     */
+    public static final String OBJECT_NAME = "maze.routing:type=RoutingMetrics";
+
+    /**
+     * An Enum with the phases of solving a maze.
+     * PARSE - reading the maze, PREPROCESS - preparing it for the search, such as filling its dead ends or building
+     * its graph, SEARCH - the search itself, SERIALISE - writing the route.
+     */
+    public enum Phase {
+        PARSE,
+        PREPROCESS,
+        SEARCH,
+        SERIALISE
+    }
+
+    private static final RoutingMetrics TOTALS = new RoutingMetrics();
+    private static final List<MetricsListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder routesFound = new LongAdder();
+    private final LongAdder steps = new LongAdder();
+    private final LongAdder nodesExpanded = new LongAdder();
+    private final LongAdder backtracks = new LongAdder();
+    private final LongAdder deadEnds = new LongAdder();
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private final AtomicInteger peakFrontier = new AtomicInteger();
+    private final LongAdder chunkLookups = new LongAdder();
+    private final LongAdder chunkMisses = new LongAdder();
+    private final LongAdder chunkBytesRead = new LongAdder();
+    private final LongAdder[] phaseNanos = new LongAdder[Phase.values().length];
+
+    private RoutingMetrics() {
+        for (int i = 0; i < this.phaseNanos.length; i++) {
+            this.phaseNanos[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Provides us with the totals of the process
+     * @return RoutingMetrics object shared by all the solvers
+     */
+    public static RoutingMetrics getTotals() {
+        return TOTALS;
+    }
+
+    /**
+     * Registers the totals in the platform MBean server under OBJECT_NAME, so JMX clients can read them.
+     * Registering them again does nothing.
+     * @throws JMException Indicates that the MBean server refused the registration
+     */
+    public static void registerMBean() throws JMException {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(TOTALS, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // already registered
+        }
+    }
+
+    /**
+     * Registers a listener which hears about every search which finishes from now on
+     * @param listener MetricsListener which is going to be notified
+     */
+    public static void addListener(MetricsListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Stops notifying a listener which was registered with addListener()
+     * @param listener MetricsListener which is not going to be notified anymore
+     */
+    public static void removeListener(MetricsListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Adds the time of a phase which happens outside of the solvers, such as reading a maze or writing its route
+     * @param phase Phase the time was spent in
+     * @param nanos long number of nanoseconds
+     */
+    public static void recordPhase(Phase phase, long nanos) {
+        TOTALS.phaseNanos[phase.ordinal()].add(nanos);
+    }
+
+    /**
+     * Adds a finished search to the totals and tells the listeners about it. Called by the solvers.
+     * @param solver MazeSolver which ran the search
+     * @param metrics SearchMetrics of the search
+     */
+    static void searchFinished(MazeSolver solver, SearchMetrics metrics) {
+        TOTALS.add(solver.isFinished(), metrics);
+        for (MetricsListener listener : LISTENERS) {
+            listener.searchFinished(solver, metrics);
+        }
+    }
+
+    private void add(boolean routeFound, SearchMetrics metrics) {
+        this.searches.increment();
+        if (routeFound) {
+            this.routesFound.increment();
+        }
+        this.steps.add(metrics.steps);
+        this.nodesExpanded.add(metrics.nodesExpanded);
+        this.backtracks.add(metrics.backtracks);
+        this.deadEnds.add(metrics.deadEnds);
+        this.maxDepth.accumulateAndGet(metrics.maxDepth, Math::max);
+        this.peakFrontier.accumulateAndGet(metrics.peakFrontier, Math::max);
+        this.chunkLookups.add(metrics.chunkLookups);
+        this.chunkMisses.add(metrics.chunkMisses);
+        this.chunkBytesRead.add(metrics.chunkBytesRead);
+        this.phaseNanos[Phase.PREPROCESS.ordinal()].add(metrics.preprocessNanos);
+        this.phaseNanos[Phase.SEARCH.ordinal()].add(metrics.searchNanos);
+    }
+
+    /**
+     * Provides us with the total time spent in a phase
+     * @param phase Phase whose time is needed
+     * @return double number of milliseconds
+     */
+    public double getPhaseMillis(Phase phase) {
+        return this.phaseNanos[phase.ordinal()].sum() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public long getSearches() {
+        return this.searches.sum();
+    }
+
+    @Override
+    public long getRoutesFound() {
+        return this.routesFound.sum();
+    }
+
+    @Override
+    public long getSteps() {
+        return this.steps.sum();
+    }
+
+    @Override
+    public long getNodesExpanded() {
+        return this.nodesExpanded.sum();
+    }
+
+    @Override
+    public long getBacktracks() {
+        return this.backtracks.sum();
+    }
+
+    @Override
+    public long getDeadEnds() {
+        return this.deadEnds.sum();
+    }
+
+    @Override
+    public int getMaxDepth() {
+        return this.maxDepth.get();
+    }
+
+    @Override
+    public int getPeakFrontier() {
+        return this.peakFrontier.get();
+    }
+
+    @Override
+    public long getChunkLookups() {
+        return this.chunkLookups.sum();
+    }
+
+    @Override
+    public long getChunkMisses() {
+        return this.chunkMisses.sum();
+    }
+
+    @Override
+    public long getChunkBytesRead() {
+        return this.chunkBytesRead.sum();
+    }
+
+    @Override
+    public double getParseMillis() {
+        return this.getPhaseMillis(Phase.PARSE);
+    }
+
+    @Override
+    public double getPreprocessMillis() {
+        return this.getPhaseMillis(Phase.PREPROCESS);
+    }
+
+    @Override
+    public double getSearchMillis() {
+        return this.getPhaseMillis(Phase.SEARCH);
+    }
+
+    @Override
+    public double getSerialiseMillis() {
+        return this.getPhaseMillis(Phase.SERIALISE);
+    }
+
+    @Override
+    public void reset() {
+        this.searches.reset();
+        this.routesFound.reset();
+        this.steps.reset();
+        this.nodesExpanded.reset();
+        this.backtracks.reset();
+        this.deadEnds.reset();
+        this.maxDepth.set(0);
+        this.peakFrontier.set(0);
+        this.chunkLookups.reset();
+        this.chunkMisses.reset();
+        this.chunkBytesRead.reset();
+        for (LongAdder phase : this.phaseNanos) {
+            phase.reset();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package maze.routing;
+
+/**
+ *	Interface handling the management view of RoutingMetrics, as it is shown by JMX clients such as JConsole.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public interface RoutingMetricsMXBean {
+    /**
+     * @return Returns the number of searches which finished
+     */
+    long getSearches();
+
+    /**
+     * @return Returns the number of finished searches which found a route
+     */
+    long getRoutesFound();
+
+    /**
+     * @return Returns the total number of steps of the finished searches
+     */
+    long getSteps();
+
+    /**
+     * @return Returns the total number of cells expanded by the finished searches
+     */
+    long getNodesExpanded();
+
+    /**
+     * @return Returns the total number of backtracks of the finished depth-first searches
+     */
+    long getBacktracks();
+
+    /**
+     * @return Returns the total number of dead ends the finished searches ran into
+     */
+    long getDeadEnds();
+
+    /**
+     * @return Returns the largest route stack depth of any finished depth-first search
+     */
+    int getMaxDepth();
+
+    /**
+     * @return Returns the largest frontier of any finished search
+     */
+    int getPeakFrontier();
+
+    /**
+     * @return Returns the total number of cells the finished searches read from mazes kept in chunk files
+     */
+    long getChunkLookups();
+
+    /**
+     * @return Returns the total number of chunks the finished searches had to read from chunk files
+     */
+    long getChunkMisses();
+
+    /**
+     * @return Returns the total number of bytes the finished searches read from chunk files
+     */
+    long getChunkBytesRead();
+
+    /**
+     * @return Returns the total time spent reading mazes, in milliseconds
+     */
+    double getParseMillis();
+
+    /**
+     * @return Returns the total time spent preparing mazes before searching them, in milliseconds
+     */
+    double getPreprocessMillis();
+
+    /**
+     * @return Returns the total time of the finished searches, in milliseconds
+     */
+    double getSearchMillis();
+
+    /**
+     * @return Returns the total time spent writing routes, in milliseconds
+     */
+    double getSerialiseMillis();
+
+    /**
+     * Sets all the totals back to 0
+     */
+    void reset();
+}
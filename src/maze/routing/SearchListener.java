@@ -0,0 +1,36 @@
+package maze.routing;
+
+/**
+ *	Interface handling the notifications a solver sends about the cells it changes.
+ *  A step changes only a few cells, so a listener can keep its own copy of the search state up to date
+ *  without rebuilding it from MazeSolver.toString() after every step.
+ *  The methods are called on the thread which runs the search.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public interface SearchListener {
+    /**
+     * Called when a cell becomes the last cell of the current route
+     * @param index Integer index of the cell in the Maze
+     */
+    void routeCellAdded(int index);
+
+    /**
+     * Called when a cell stops being part of the current route.
+     * Whether the cell counts as explored afterwards is reported by cellExplored() alone.
+     * @param index Integer index of the cell in the Maze
+     */
+    void routeCellRemoved(int index);
+
+    /**
+     * Called when a cell becomes explored. The cell may be on the route at the same time.
+     * @param index Integer index of the cell in the Maze
+     */
+    void cellExplored(int index);
+
+    /**
+     * Called when a cell stops being explored, because the search was stepped back to before it was explored
+     * @param index Integer index of the cell in the Maze
+     */
+    void cellUnexplored(int index);
+}
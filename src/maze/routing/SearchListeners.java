@@ -0,0 +1,60 @@
+package maze.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *	Handles the SearchListeners registered with a solver and passes every notification on to all of them.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+class SearchListeners implements SearchListener {
+    private final List<SearchListener> listeners = new ArrayList<>();
+
+    void add(SearchListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener can't be null");
+        }
+        this.listeners.add(listener);
+    }
+
+    void remove(SearchListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Provides us with information whether anyone is listening, so solvers can skip work done only for the listeners
+     * @return True if there are no listeners
+     */
+    boolean isEmpty() {
+        return this.listeners.isEmpty();
+    }
+
+    @Override
+    public void routeCellAdded(int index) {
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).routeCellAdded(index);
+        }
+    }
+
+    @Override
+    public void routeCellRemoved(int index) {
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).routeCellRemoved(index);
+        }
+    }
+
+    @Override
+    public void cellExplored(int index) {
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).cellExplored(index);
+        }
+    }
+
+    @Override
+    public void cellUnexplored(int index) {
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).cellUnexplored(index);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package maze.routing;
+
+import maze.Maze;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *	Handles the counters of a single search, which the solver updates while it runs.
+ *  The counters are plain fields updated by the solvers of this package, so keeping them costs no more than an increment.
+ *  They are reset together with the solver and are not safe to read from another thread while the search runs.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class SearchMetrics {
+    long steps;
+    int nodesExpanded;
+    int backtracks;
+    int deadEnds;
+    int maxDepth;
+    int peakFrontier;
+    long preprocessNanos;
+    long searchNanos;
+    long chunkLookups;
+    long chunkMisses;
+    long chunkBytesRead;
+    // the chunk counters of the Maze when the search started, which are shared by all the searches of the Maze
+    private long chunkLookupsBefore;
+    private long chunkMissesBefore;
+    private long chunkBytesReadBefore;
+
+    /**
+     * Sets all the counters back to 0 for a new search
+     * @param maze Maze object which is going to be searched
+     */
+    void clear(Maze maze) {
+        this.chunkLookups = 0;
+        this.chunkMisses = 0;
+        this.chunkBytesRead = 0;
+        this.chunkLookupsBefore = maze.getChunkLookups();
+        this.chunkMissesBefore = maze.getChunkMisses();
+        this.chunkBytesReadBefore = maze.getChunkBytesRead();
+        this.steps = 0;
+        this.nodesExpanded = 0;
+        this.backtracks = 0;
+        this.deadEnds = 0;
+        this.maxDepth = 0;
+        this.peakFrontier = 0;
+        this.preprocessNanos = 0;
+        this.searchNanos = 0;
+    }
+
+    /**
+     * Updates the chunk counters from those of the Maze, for a Maze which is kept in a chunk file
+     * @param maze Maze object which is searched
+     */
+    void readChunks(Maze maze) {
+        if (maze.isChunked()) {
+            this.chunkLookups = maze.getChunkLookups() - this.chunkLookupsBefore;
+            this.chunkMisses = maze.getChunkMisses() - this.chunkMissesBefore;
+            this.chunkBytesRead = maze.getChunkBytesRead() - this.chunkBytesReadBefore;
+        }
+    }
+
+    /**
+     * Records the size of the frontier, keeping the largest one
+     * @param size Integer number of cells or nodes waiting to be expanded
+     */
+    void frontier(int size) {
+        if (size > this.peakFrontier) {
+            this.peakFrontier = size;
+        }
+    }
+
+    /**
+     * Records the depth of the route of a depth-first search, keeping the largest one.
+     * The route stack is also the frontier of such a search.
+     * @param depth Integer number of cells on the route
+     */
+    void depth(int depth) {
+        if (depth > this.maxDepth) {
+            this.maxDepth = depth;
+            this.frontier(depth);
+        }
+    }
+
+    /**
+     * Provides us with the number of steps made, the one which sets up the search included
+     * @return long count of the steps
+     */
+    public long getSteps() {
+        return this.steps;
+    }
+
+    /**
+     * Provides us with the number of cells, or graph nodes, the search expanded
+     * @return Integer count of the expanded cells
+     */
+    public int getNodesExpanded() {
+        return this.nodesExpanded;
+    }
+
+    /**
+     * Provides us with the number of times a depth-first search went back along its route
+     * @return Integer count of the cells taken off the route, 0 for the other searches
+     */
+    public int getBacktracks() {
+        return this.backtracks;
+    }
+
+    /**
+     * Provides us with the number of dead ends the search ran into - expanded cells which led to no new cell.
+     * For a depth-first search these are the tips of the branches it had to back out of.
+     * @return Integer count of the dead ends
+     */
+    public int getDeadEnds() {
+        return this.deadEnds;
+    }
+
+    /**
+     * Provides us with the largest depth of the route stack of a depth-first search
+     * @return Integer number of cells, 0 for the other searches
+     */
+    public int getMaxDepth() {
+        return this.maxDepth;
+    }
+
+    /**
+     * Provides us with the largest number of cells, or graph nodes, waiting to be expanded at the same time
+     * @return Integer size of the largest frontier
+     */
+    public int getPeakFrontier() {
+        return this.peakFrontier;
+    }
+
+    /**
+     * Provides us with the time the solver spent preparing the Maze before searching it, such as building a graph
+     * @return double number of milliseconds
+     */
+    public double getPreprocessMillis() {
+        return this.preprocessNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Provides us with the time spent in step() and solve(), the preprocessing excluded
+     * @return double number of milliseconds
+     */
+    public double getSearchMillis() {
+        return this.searchNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Provides us with the number of cells the search read from a Maze kept in a chunk file
+     * @return long count of the cell lookups, 0 if the Maze is not chunked
+     */
+    public long getChunkLookups() {
+        return this.chunkLookups;
+    }
+
+    /**
+     * Provides us with the number of chunks the search had to read from the chunk file
+     * @return long count of the chunk misses, 0 if the Maze is not chunked
+     */
+    public long getChunkMisses() {
+        return this.chunkMisses;
+    }
+
+    /**
+     * Provides us with the amount of data the search read from the chunk file
+     * @return long number of bytes, 0 if the Maze is not chunked
+     */
+    public long getChunkBytesRead() {
+        return this.chunkBytesRead;
+    }
+
+    /**
+     * Provides us with the share of the cell lookups which found their chunk already loaded
+     * @return double between 0 and 1, or 1 if no cells were read from a chunk file
+     */
+    public double getChunkHitRate() {
+        return this.chunkLookups == 0 ? 1 : 1 - this.chunkMisses / (double) this.chunkLookups;
+    }
+
+    /**
+     * Method which transforms the metrics to a String, with every counter as "name=value".
+     * The chunk counters are only added for a Maze kept in a chunk file.
+     * @return Returns the created String
+     */
+    @Override
+    public String toString() {
+        String counters = String.format(Locale.ROOT,
+                "steps=%d nodesExpanded=%d backtracks=%d deadEnds=%d maxDepth=%d peakFrontier=%d preprocessMillis=%.3f searchMillis=%.3f",
+                this.steps, this.nodesExpanded, this.backtracks, this.deadEnds, this.maxDepth, this.peakFrontier,
+                this.getPreprocessMillis(), this.getSearchMillis());
+        if (this.chunkLookups == 0) {
+            return counters;
+        }
+        return counters + String.format(Locale.ROOT, " chunkHitRate=%.6f chunkMisses=%d chunkBytesRead=%d",
+                this.getChunkHitRate(), this.chunkMisses, this.chunkBytesRead);
+    }
+}
@@ -0,0 +1,14 @@
+package maze.routing;
+
+/**
+ *	An Enum with the outcomes of a search.
+ *  IN_PROGRESS - the search has not ended yet, ROUTE_FOUND - a route from the entrance to the exit was found,
+ *  NO_ROUTE - it is sure that the exit cannot be reached from the entrance.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public enum SearchOutcome {
+    IN_PROGRESS,
+    ROUTE_FOUND,
+    NO_ROUTE
+}
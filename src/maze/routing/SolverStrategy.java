@@ -0,0 +1,49 @@
+package maze.routing;
+
+import maze.Maze;
+
+/**
+ *	An Enum with the available route finding strategies, used for creating the matching MazeSolver.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public enum SolverStrategy {
+    DEPTH_FIRST,
+    BREADTH_FIRST,
+    A_STAR,
+    BIDIRECTIONAL,
+    PARALLEL_BREADTH_FIRST,
+    CORRIDOR_GRAPH,
+    DIJKSTRA,
+    JUMP_POINT,
+    INCREMENTAL;
+
+    /**
+     * Creates a new solver of this strategy for a given Maze
+     * @param maze Maze object which is going to be solved
+     * @return Returns a newly created MazeSolver, which has not made any steps yet
+     */
+    public MazeSolver create(Maze maze) {
+        switch (this) {
+            case BREADTH_FIRST:
+                return new BreadthFirstSolver(maze);
+            case A_STAR:
+                return new AStarSolver(maze);
+            case BIDIRECTIONAL:
+                return new BidirectionalSolver(maze);
+            case PARALLEL_BREADTH_FIRST:
+                return new ParallelBreadthFirstSolver(maze);
+            case CORRIDOR_GRAPH:
+                return new CorridorGraphSolver(maze);
+            case DIJKSTRA:
+                return new DijkstraSolver(maze);
+            case JUMP_POINT:
+                return new JumpPointSolver(maze);
+            case INCREMENTAL:
+                return new IncrementalSolver(maze);
+            case DEPTH_FIRST:
+            default:
+                return new RouteFinder(maze);
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package maze.visualisation;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.*;
+import javafx.scene.paint.Color;
+import maze.Maze;
+import maze.Tile;
+import maze.routing.SearchListener;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ *	Handles displaying a Maze and the state of its search on a single Canvas.
+ *  Every cell has one state, kept in a byte array and mirrored as one pixel of an image,
+ *  so drawing a frame never creates a node per cell. Zoomed out, the visible part of the image is drawn scaled,
+ *  zoomed in, only the visible cells are drawn - either way the cost of a frame is bounded by the size of the view.
+ *  Scrolling zooms around the cursor, dragging pans and a double click fits the Maze to the view.
+ *  As a SearchListener it follows a solver cell by cell, so a step only changes the cells the solver reports.
+ *  Uses JavaFx.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class MazeView extends Pane implements SearchListener {
+    /**
+     * State of a cell which is on the current route
+     */
+    public static final byte ROUTE = 4;
+    /**
+     * State of a cell which was explored, but is not on the current route
+     */
+    public static final byte EXPLORED = 5;
+
+    private static final byte CORRIDOR = (byte) Tile.Type.CORRIDOR.ordinal();
+    private static final byte ENTRANCE = (byte) Tile.Type.ENTRANCE.ordinal();
+    private static final byte EXIT = (byte) Tile.Type.EXIT.ordinal();
+    private static final byte WALL = (byte) Tile.Type.WALL.ordinal();
+    // Colours of the states CORRIDOR, ENTRANCE, EXIT, WALL, ROUTE and EXPLORED, as ARGB pixels
+    private static final int[] PIXELS = {0xFFFFFFFF, 0xFF008000, 0xFF008000, 0xFF000000, 0xFF0000FF, 0xFFFF0000};
+    private static final Color[] COLOURS = {Color.WHITE, Color.GREEN, Color.GREEN, Color.BLACK, Color.BLUE, Color.RED};
+    private static final double PADDING = 5;
+    private static final double DEFAULT_CELL_SIZE = 20;
+    private static final double MAX_CELL_SIZE = 64;
+    // below this size the cells are drawn through the image, above it one by one with their shapes
+    private static final double DETAIL_CELL_SIZE = 6;
+    private static final double ZOOM_PER_SCROLL_UNIT = 1.005;
+
+    private final Canvas canvas = new Canvas();
+    private int width = 0;
+    private int height = 0;
+    private byte[] states;
+    // Tile.Type ordinal of every cell and the cells which are explored, so a cell leaving the route shows the right state
+    private byte[] tiles;
+    private BitSet explored;
+    private int[] pixels;
+    private WritableImage image;
+    // rows of the image, counted from the top, whose pixels have changed since the last frame
+    private int dirtyFrom = Integer.MAX_VALUE;
+    private int dirtyTo = -1;
+    private double cellSize = DEFAULT_CELL_SIZE;
+    private double offsetX = PADDING;
+    private double offsetY = PADDING;
+    private double dragX;
+    private double dragY;
+
+    /**
+     * Simple constructor for creating new Objects of Type MazeView with a given preferred size.
+     * @param prefWidth double - preferred width of the view
+     * @param prefHeight double - preferred height of the view
+     */
+    public MazeView(double prefWidth, double prefHeight) {
+        this.getChildren().add(this.canvas);
+        this.setPrefSize(prefWidth, prefHeight);
+        this.setMinSize(0, 0);
+        this.setBorder(new Border(new BorderStroke(Color.BLACK, BorderStrokeStyle.SOLID, CornerRadii.EMPTY, BorderWidths.DEFAULT)));
+
+        this.setOnScroll((ScrollEvent event) -> {
+            this.zoom(Math.pow(ZOOM_PER_SCROLL_UNIT, event.getDeltaY()), event.getX(), event.getY());
+            event.consume();
+        });
+        this.setOnMousePressed((MouseEvent event) -> {
+            this.dragX = event.getX();
+            this.dragY = event.getY();
+        });
+        this.setOnMouseDragged((MouseEvent event) -> {
+            this.pan(event.getX() - this.dragX, event.getY() - this.dragY);
+            this.dragX = event.getX();
+            this.dragY = event.getY();
+        });
+        this.setOnMouseClicked((MouseEvent event) -> {
+            if (event.getButton() == MouseButton.PRIMARY && event.getClickCount() == 2) {
+                this.fit();
+            }
+        });
+    }
+
+    /**
+     * Displays a new Maze without any search state.
+     * Mazes which fit in the view are shown at the default size, larger ones are zoomed out to fit.
+     * @param maze Maze object which is going to be displayed
+     */
+    public void setMaze(Maze maze) {
+        this.resize(maze.getWidth(), maze.getHeight());
+        for (int index = 0; index < this.states.length; index++) {
+            this.setState(index, (byte) maze.getType(index).ordinal());
+        }
+        this.fit();
+    }
+
+    /**
+     * Displays a Maze, or the state of a search, from its text form.
+     * The text is in the format of Maze.toString() or MazeSolver.toString() - "*" marks the route and "-" the explored cells.
+     * If the size of the Maze changes, the view is fitted to the new one, otherwise the zoom and position are kept.
+     * @param mazeText String with one line per row, the top row first
+     */
+    public void show(String mazeText) {
+        int columns = mazeText.indexOf('\n');
+        if (columns == -1) {
+            columns = mazeText.length();
+        }
+        int rows = columns == 0 ? 0 : (mazeText.length() + 1) / (columns + 1);
+        boolean resized = columns != this.width || rows != this.height;
+        if (resized) {
+            this.resize(columns, rows);
+        }
+        for (int row = 0; row < rows; row++) {
+            int lineStart = row * (columns + 1);
+            int rowStart = (rows - 1 - row) * columns;
+            for (int column = 0; column < columns; column++) {
+                this.setState(rowStart + column, stateOf(mazeText.charAt(lineStart + column)));
+            }
+        }
+        if (resized) {
+            this.fit();
+        } else {
+            this.draw();
+        }
+    }
+
+    /**
+     * Changes the state of a single cell. The change is shown by the next call to draw().
+     * @param index Integer index of the cell in the Maze
+     * @param state byte - a Tile.Type ordinal, ROUTE or EXPLORED
+     */
+    public void setState(int index, byte state) {
+        if (state == EXPLORED) {
+            this.explored.set(index);
+        } else if (state != ROUTE) {
+            this.tiles[index] = state;
+            this.explored.clear(index);
+        }
+        this.paint(index, state);
+    }
+
+    private void paint(int index, byte state) {
+        if (this.states[index] == state) {
+            return;
+        }
+        this.states[index] = state;
+        int row = this.height - 1 - index / this.width;
+        int column = index % this.width;
+        this.pixels[row * this.width + column] = PIXELS[state];
+        this.dirtyFrom = Math.min(this.dirtyFrom, row);
+        this.dirtyTo = Math.max(this.dirtyTo, row);
+    }
+
+    /**
+     * Marks a cell as part of the route. The change is shown by the next call to draw().
+     * @param index Integer index of the cell in the Maze
+     */
+    @Override
+    public void routeCellAdded(int index) {
+        this.paint(index, ROUTE);
+    }
+
+    /**
+     * Shows a cell which left the route as explored if it was reported so, and as its tile otherwise.
+     * The change is shown by the next call to draw().
+     * @param index Integer index of the cell in the Maze
+     */
+    @Override
+    public void routeCellRemoved(int index) {
+        this.paint(index, this.explored.get(index) ? EXPLORED : this.tiles[index]);
+    }
+
+    /**
+     * Marks a cell as explored. Cells on the route keep showing as route until they leave it.
+     * The change is shown by the next call to draw().
+     * @param index Integer index of the cell in the Maze
+     */
+    @Override
+    public void cellExplored(int index) {
+        this.explored.set(index);
+        if (this.states[index] != ROUTE) {
+            this.paint(index, EXPLORED);
+        }
+    }
+
+    /**
+     * Marks a cell as not explored anymore. Cells on the route keep showing as route.
+     * The change is shown by the next call to draw().
+     * @param index Integer index of the cell in the Maze
+     */
+    @Override
+    public void cellUnexplored(int index) {
+        this.explored.clear(index);
+        if (this.states[index] != ROUTE) {
+            this.paint(index, this.tiles[index]);
+        }
+    }
+
+    /**
+     * Zooms the view, keeping the point under a given position in place
+     * @param factor double - ratio of the new to the old size of a cell
+     * @param pivotX double - horizontal position in the view which stays in place
+     * @param pivotY double - vertical position in the view which stays in place
+     */
+    public void zoom(double factor, double pivotX, double pivotY) {
+        double newCellSize = Math.max(this.minCellSize(), Math.min(MAX_CELL_SIZE, this.cellSize * factor));
+        double ratio = newCellSize / this.cellSize;
+        this.offsetX = pivotX - (pivotX - this.offsetX) * ratio;
+        this.offsetY = pivotY - (pivotY - this.offsetY) * ratio;
+        this.cellSize = newCellSize;
+        this.draw();
+    }
+
+    /**
+     * Moves the view by a given distance
+     * @param dx double - horizontal distance in pixels
+     * @param dy double - vertical distance in pixels
+     */
+    public void pan(double dx, double dy) {
+        this.offsetX += dx;
+        this.offsetY += dy;
+        this.draw();
+    }
+
+    /**
+     * Shows the whole Maze in the top left corner - at the default size if it fits, zoomed out otherwise.
+     */
+    public void fit() {
+        this.cellSize = Math.min(DEFAULT_CELL_SIZE, this.fitCellSize());
+        this.offsetX = PADDING;
+        this.offsetY = PADDING;
+        this.draw();
+    }
+
+    /**
+     * Draws the visible part of the Maze.
+     * Only the rows of the image which changed since the last frame are copied to it.
+     */
+    public void draw() {
+        double viewWidth = this.canvas.getWidth();
+        double viewHeight = this.canvas.getHeight();
+        GraphicsContext graphics = this.canvas.getGraphicsContext2D();
+        graphics.setFill(Color.WHITE);
+        graphics.fillRect(0, 0, viewWidth, viewHeight);
+        if (this.states == null || this.states.length == 0) {
+            return;
+        }
+        if (this.dirtyTo >= this.dirtyFrom) {
+            this.image.getPixelWriter().setPixels(0, this.dirtyFrom, this.width, this.dirtyTo - this.dirtyFrom + 1,
+                    PixelFormat.getIntArgbInstance(), this.pixels, this.dirtyFrom * this.width, this.width);
+            this.dirtyFrom = Integer.MAX_VALUE;
+            this.dirtyTo = -1;
+        }
+
+        int firstColumn = Math.max(0, (int) Math.floor(-this.offsetX / this.cellSize));
+        int lastColumn = Math.min(this.width, (int) Math.ceil((viewWidth - this.offsetX) / this.cellSize));
+        int firstRow = Math.max(0, (int) Math.floor(-this.offsetY / this.cellSize));
+        int lastRow = Math.min(this.height, (int) Math.ceil((viewHeight - this.offsetY) / this.cellSize));
+        if (firstColumn >= lastColumn || firstRow >= lastRow) {
+            return;
+        }
+        if (this.cellSize >= DETAIL_CELL_SIZE) {
+            this.drawCells(graphics, firstColumn, lastColumn, firstRow, lastRow);
+        } else {
+            graphics.setImageSmoothing(false);
+            graphics.drawImage(this.image,
+                    firstColumn, firstRow, lastColumn - firstColumn, lastRow - firstRow,
+                    this.offsetX + firstColumn * this.cellSize, this.offsetY + firstRow * this.cellSize,
+                    (lastColumn - firstColumn) * this.cellSize, (lastRow - firstRow) * this.cellSize);
+        }
+    }
+
+    /**
+     * Draws the cells in the given range one by one - walls as squares, the entrance and the exit as smaller squares,
+     * route and explored cells as circles.
+     */
+    private void drawCells(GraphicsContext graphics, int firstColumn, int lastColumn, int firstRow, int lastRow) {
+        double inset = this.cellSize * 3 / 40;
+        double radius = this.cellSize / 4;
+        for (int row = firstRow; row < lastRow; row++) {
+            int rowStart = (this.height - 1 - row) * this.width;
+            double y = this.offsetY + row * this.cellSize;
+            for (int column = firstColumn; column < lastColumn; column++) {
+                byte state = this.states[rowStart + column];
+                if (state == CORRIDOR) {
+                    continue;
+                }
+                double x = this.offsetX + column * this.cellSize;
+                graphics.setFill(COLOURS[state]);
+                if (state == WALL) {
+                    graphics.fillRect(x, y, this.cellSize, this.cellSize);
+                } else if (state == ENTRANCE || state == EXIT) {
+                    graphics.fillRect(x + inset, y + inset, this.cellSize - 2 * inset, this.cellSize - 2 * inset);
+                } else {
+                    double centre = this.cellSize / 2;
+                    graphics.fillOval(x + centre - radius, y + centre - radius, 2 * radius, 2 * radius);
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps the Canvas the same size as the view and redraws it when the size changes
+     */
+    @Override
+    protected void layoutChildren() {
+        if (this.canvas.getWidth() != this.getWidth() || this.canvas.getHeight() != this.getHeight()) {
+            this.canvas.setWidth(this.getWidth());
+            this.canvas.setHeight(this.getHeight());
+            this.draw();
+        }
+    }
+
+    private void resize(int columns, int rows) {
+        this.width = columns;
+        this.height = rows;
+        this.states = new byte[columns * rows];
+        this.tiles = new byte[columns * rows];
+        this.explored = new BitSet(columns * rows);
+        this.pixels = new int[columns * rows];
+        Arrays.fill(this.pixels, PIXELS[CORRIDOR]);
+        this.image = columns * rows == 0 ? null : new WritableImage(columns, rows);
+        this.dirtyFrom = 0;
+        this.dirtyTo = rows - 1;
+    }
+
+    private double fitCellSize() {
+        if (this.width == 0 || this.height == 0) {
+            return DEFAULT_CELL_SIZE;
+        }
+        // before the first layout pass the view has no size yet, so the preferred one is used
+        double viewWidth = this.getWidth() > 0 ? this.getWidth() : this.getPrefWidth();
+        double viewHeight = this.getHeight() > 0 ? this.getHeight() : this.getPrefHeight();
+        double availableWidth = Math.max(1, viewWidth - 2 * PADDING);
+        double availableHeight = Math.max(1, viewHeight - 2 * PADDING);
+        return Math.min(availableWidth / this.width, availableHeight / this.height);
+    }
+
+    private double minCellSize() {
+        return Math.min(1, this.fitCellSize()) / 2;
+    }
+
+    private static byte stateOf(char symbol) {
+        switch (symbol) {
+            case '.':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                return CORRIDOR;
+            case 'e':
+                return ENTRANCE;
+            case 'x':
+                return EXIT;
+            case '#':
+                return WALL;
+            case '*':
+                return ROUTE;
+            case '-':
+                return EXPLORED;
+            default:
+                throw new IllegalArgumentException("Unknown symbol in the maze text: " + symbol);
+        }
+    }
+}
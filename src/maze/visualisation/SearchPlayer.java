@@ -0,0 +1,328 @@
+package maze.visualisation;
+
+import javafx.application.Platform;
+import maze.routing.MazeSolver;
+import maze.routing.SearchListener;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ *	Handles playing a search as an animation, with the solver running on a worker thread.
+ *  While playing, the changes the solver reports are collected in a buffer instead of going to the MazeView.
+ *  At most once per frame the buffer is handed over to the JavaFX application thread with Platform.runLater(),
+ *  which applies it to the view and redraws it, so the user interface stays responsive however fast the search runs.
+ *  All the public methods have to be called on the JavaFX application thread.
+ *	@author	Christyan	Stoyanov
+ *	@version 1.2,	18th	October	2026
+ */
+public class SearchPlayer {
+    /**
+     * The highest speed a search can be played at, in steps per second
+     */
+    public static final double MAX_STEPS_PER_SECOND = 1_000_000;
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long FRAME_NANOS = TimeUnit.SECONDS.toNanos(1) / 60;
+    // the cancel and pause requests are checked at least once per this many steps, and once per frame -
+    // a batch is cut down to the steps which the last batch suggests fit in a frame
+    private static final int MAX_STEPS_PER_BATCH = 4096;
+
+    private final MazeSolver solver;
+    private final MazeView view;
+    private final Runnable onStopped;
+    private final Object lock = new Object();
+    // changes and paused are guarded by lock, applied is only used on the JavaFX application thread
+    private final ChangeBuffer changes = new ChangeBuffer();
+    private final ChangeBuffer applied = new ChangeBuffer();
+    private boolean paused = false;
+    private final AtomicBoolean framePending = new AtomicBoolean(false);
+    private volatile double stepsPerSecond;
+    private volatile boolean cancelled = false;
+    private Thread worker;
+    private boolean stopped = false;
+
+    /**
+     * A public constructor for creating new Objects of type SearchPlayer.
+     * The view should already be registered as a listener of the solver - it is detached while playing
+     * and registered again when the player stops.
+     * @param solver MazeSolver whose search is going to be played
+     * @param view MazeView which shows the search
+     * @param stepsPerSecond double - the initial speed, between 0 and MAX_STEPS_PER_SECOND
+     * @param onStopped Runnable which is run on the JavaFX application thread once the search is over or cancelled
+     */
+    public SearchPlayer(MazeSolver solver, MazeView view, double stepsPerSecond, Runnable onStopped) {
+        this.solver = solver;
+        this.view = view;
+        this.onStopped = onStopped;
+        this.setStepsPerSecond(stepsPerSecond);
+    }
+
+    /**
+     * Starts playing the search on a new worker thread. A player can only be played once.
+     */
+    public void play() {
+        if (this.worker != null) {
+            throw new IllegalStateException("Player has already been started");
+        }
+        this.solver.removeSearchListener(this.view);
+        this.solver.addSearchListener(this.changes);
+        this.worker = new Thread(this::run, "maze-solver");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Pauses the search after the current batch of steps. The changes made until then are still shown.
+     */
+    public void pause() {
+        synchronized (this.lock) {
+            this.paused = true;
+        }
+    }
+
+    /**
+     * Continues a paused search
+     */
+    public void resume() {
+        synchronized (this.lock) {
+            this.paused = false;
+            this.lock.notifyAll();
+        }
+    }
+
+    /**
+     * A method which provides us with information whether the search is paused
+     * @return True if pause() was called and resume() was not called since
+     */
+    public boolean isPaused() {
+        synchronized (this.lock) {
+            return this.paused;
+        }
+    }
+
+    /**
+     * Changes the speed of the search. The change takes effect from the next batch of steps.
+     * @param stepsPerSecond double - the new speed, between 0 and MAX_STEPS_PER_SECOND
+     */
+    public void setStepsPerSecond(double stepsPerSecond) {
+        if (!(stepsPerSecond > 0 && stepsPerSecond <= MAX_STEPS_PER_SECOND)) {
+            throw new IllegalArgumentException("Speed has to be between 0 and " + MAX_STEPS_PER_SECOND + " steps per second");
+        }
+        this.stepsPerSecond = stepsPerSecond;
+    }
+
+    /**
+     * Asks the search to stop without waiting for it - the worker thread stops after its current step,
+     * which may be a long one, and then the player stops on the JavaFX application thread like at the end of the search.
+     * The solver is left in a consistent state, so it can be stepped or played again once onStopped is run.
+     */
+    public void cancel() {
+        if (this.stopped || this.worker == null) {
+            return;
+        }
+        this.cancelled = true;
+        this.worker.interrupt();
+    }
+
+    /**
+     * A method which provides us with information whether the player is still playing or paused
+     * @return True if the player was started and has not stopped yet
+     */
+    public boolean isRunning() {
+        return this.worker != null && !this.stopped;
+    }
+
+    /**
+     * The loop of the worker thread. Steps are made as the speed allows - the time since the last batch,
+     * multiplied by the speed, gives the number of steps which are due - and the changes are published
+     * at most once per frame. How long a step takes differs a lot between the solvers, and between the steps
+     * of one solver, so the first batch is a single step and every other one is limited by the time per step
+     * of the one before it.
+     */
+    private void run() {
+        long last = System.nanoTime();
+        long lastFrame = last;
+        double due = 0;
+        int stepsPerFrame = 1;
+        boolean over = false;
+        try {
+            while (!over && !this.cancelled) {
+                if (this.waitWhilePaused()) {
+                    last = System.nanoTime();
+                }
+                long now = System.nanoTime();
+                double rate = this.stepsPerSecond;
+                // steps which could not be made in time are dropped instead of being made in a burst later
+                due = Math.min(due + (now - last) * rate / NANOS_PER_SECOND, Math.max(1, rate * FRAME_NANOS / NANOS_PER_SECOND));
+                last = now;
+                int steps = (int) Math.min(due, Math.min(MAX_STEPS_PER_BATCH, stepsPerFrame));
+                if (steps == 0) {
+                    long untilNextStep = (long) ((1 - due) / rate * NANOS_PER_SECOND);
+                    TimeUnit.NANOSECONDS.sleep(Math.max(1, Math.min(untilNextStep, FRAME_NANOS)));
+                    continue;
+                }
+                over = this.solver.step(steps);
+                due -= steps;
+                long stepNanos = Math.max(1, (System.nanoTime() - now) / steps);
+                stepsPerFrame = (int) Math.max(1, Math.min(MAX_STEPS_PER_BATCH, FRAME_NANOS / stepNanos));
+                if (now - lastFrame >= FRAME_NANOS) {
+                    this.publish();
+                    lastFrame = now;
+                }
+            }
+        } catch (InterruptedException e) {
+            // only cancel() interrupts the worker
+        } finally {
+            Platform.runLater(this::stop);
+        }
+    }
+
+    /**
+     * Blocks the worker while the search is paused. The changes made before pausing are published first.
+     * @return True if the worker had to wait
+     * @throws InterruptedException Indicates that the player was cancelled
+     */
+    private boolean waitWhilePaused() throws InterruptedException {
+        synchronized (this.lock) {
+            if (!this.paused) {
+                return false;
+            }
+        }
+        this.publish();
+        synchronized (this.lock) {
+            while (this.paused && !this.cancelled) {
+                this.lock.wait();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Asks the JavaFX application thread to show the collected changes, unless it has not shown the previous ones yet
+     */
+    private void publish() {
+        if (this.framePending.compareAndSet(false, true)) {
+            Platform.runLater(() -> {
+                this.framePending.set(false);
+                this.applyChanges();
+            });
+        }
+    }
+
+    /**
+     * Moves the collected changes to the view and redraws it. Runs on the JavaFX application thread.
+     * The buffers are swapped under the lock, so the worker is only blocked for the swap, not for the drawing.
+     */
+    private void applyChanges() {
+        ChangeBuffer toApply;
+        synchronized (this.lock) {
+            toApply = this.changes.moveTo(this.applied);
+        }
+        toApply.applyTo(this.view);
+        this.view.draw();
+    }
+
+    /**
+     * Shows the remaining changes and gives the solver back to the view. Runs on the JavaFX application thread
+     * once the worker has made its last step.
+     */
+    private void stop() {
+        if (this.stopped) {
+            return;
+        }
+        this.stopped = true;
+        this.applyChanges();
+        this.solver.removeSearchListener(this.changes);
+        this.solver.addSearchListener(this.view);
+        this.onStopped.run();
+    }
+
+    /**
+     *	Handles collecting the changes reported by a solver, in the order they were made.
+     *  A change is kept as the index of the cell and the kind of change, in two growing primitive arrays.
+     */
+    private class ChangeBuffer implements SearchListener {
+        private static final byte ADDED = 0;
+        private static final byte REMOVED = 1;
+        private static final byte EXPLORED = 2;
+        private static final byte UNEXPLORED = 3;
+
+        private int[] cells = new int[1024];
+        private byte[] kinds = new byte[1024];
+        private int size = 0;
+
+        @Override
+        public void routeCellAdded(int index) {
+            this.record(index, ADDED);
+        }
+
+        @Override
+        public void routeCellRemoved(int index) {
+            this.record(index, REMOVED);
+        }
+
+        @Override
+        public void cellExplored(int index) {
+            this.record(index, EXPLORED);
+        }
+
+        @Override
+        public void cellUnexplored(int index) {
+            this.record(index, UNEXPLORED);
+        }
+
+        private void record(int index, byte kind) {
+            synchronized (SearchPlayer.this.lock) {
+                if (this.size == this.cells.length) {
+                    this.cells = Arrays.copyOf(this.cells, this.size * 2);
+                    this.kinds = Arrays.copyOf(this.kinds, this.size * 2);
+                }
+                this.cells[this.size] = index;
+                this.kinds[this.size] = kind;
+                this.size++;
+            }
+        }
+
+        /**
+         * Moves the changes to an empty buffer by swapping their arrays, leaving this buffer empty.
+         * Has to be called while holding the lock.
+         * @param target ChangeBuffer which receives the changes, its previous changes are dropped
+         * @return Returns the target buffer
+         */
+        ChangeBuffer moveTo(ChangeBuffer target) {
+            int[] targetCells = target.cells;
+            byte[] targetKinds = target.kinds;
+            target.cells = this.cells;
+            target.kinds = this.kinds;
+            target.size = this.size;
+            this.cells = targetCells;
+            this.kinds = targetKinds;
+            this.size = 0;
+            return target;
+        }
+
+        /**
+         * Sends the changes to a listener in the order they were made
+         * @param listener SearchListener which receives the changes
+         */
+        void applyTo(SearchListener listener) {
+            for (int i = 0; i < this.size; i++) {
+                switch (this.kinds[i]) {
+                    case ADDED:
+                        listener.routeCellAdded(this.cells[i]);
+                        break;
+                    case REMOVED:
+                        listener.routeCellRemoved(this.cells[i]);
+                        break;
+                    case EXPLORED:
+                        listener.cellExplored(this.cells[i]);
+                        break;
+                    default:
+                        listener.cellUnexplored(this.cells[i]);
+                }
+            }
+            this.size = 0;
+        }
+    }
+}